@@ -0,0 +1,40 @@
+package com.example.gatewayservice.config;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+
+/**
+ * 인증 없이 통과할 경로 판별기.
+ * WhitelistProperties 의 패턴을 기동 시 한 번만 PathPattern 으로 컴파일해 둔다.
+ */
+@Component
+public class WhitelistMatcher {
+
+    private static final List<String> DEFAULT_PATHS = List.of("/lectures/video/{lectureId:\\d+}/stream");
+
+    private final List<PathPattern> patterns;
+
+    public WhitelistMatcher(WhitelistProperties whitelistProperties) {
+        List<String> paths = whitelistProperties.getPaths() != null && !whitelistProperties.getPaths().isEmpty()
+                ? whitelistProperties.getPaths()
+                : DEFAULT_PATHS;
+
+        PathPatternParser parser = new PathPatternParser();
+        this.patterns = paths.stream()
+                .map(parser::parse)
+                .toList();
+    }
+
+    public boolean matches(PathContainer path) {
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.gatewayservice.config.cache;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import reactor.core.publisher.Mono;
+
+public record CachedResponse(int status, HttpHeaders headers, byte[] body, String etag, long storedAtNanos) {
+
+    public boolean isFresherThan(long maxAgeNanos, long now) {
+        return now - storedAtNanos < maxAgeNanos;
+    }
+
+    /**
+     * 보관한 상태 코드, 헤더, 본문을 응답에 쓴다. 응답에 이미 있는 헤더(CORS 등)는 덮어쓰지 않는다.
+     */
+    public Mono<Void> writeTo(ServerHttpResponse response) {
+        headers.forEach((name, values) -> {
+            if (!response.getHeaders().containsKey(name)) {
+                response.getHeaders().put(name, values);
+            }
+        });
+        response.setStatusCode(HttpStatusCode.valueOf(status));
+        response.getHeaders().setContentLength(body.length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.gatewayservice.config.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "gateway.response-cache")
+@Getter
+@Setter
+public class ResponseCacheProperties {
+    private int maxEntries = 1_000;
+    // 이 크기를 넘는 응답은 캐시하지 않음
+    private int maxBodySize = 1024 * 1024;
+    // 업스트림 장애(서킷 오픈 등) 시 TTL 이 지난 응답을 이 시간까지는 대신 내려준다
+    private Duration maxStale = Duration.ofMinutes(10);
+    // 캐시에 저장하지 않을 응답 헤더 (CORS 헤더는 게이트웨이가 매 요청 직접 붙임)
+    private List<String> excludedHeaders = List.of("Set-Cookie", "Transfer-Encoding", "Connection", "Content-Length");
+}
@@ -0,0 +1,112 @@
+package com.example.gatewayservice.config.cache;
+
+import com.example.gatewayservice.config.metrics.GatewayMetrics;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * GET 응답 본문을 보관하는 게이트웨이 메모리 캐시 (최대 개수 제한, max-stale 이 지나면 제거).
+ * 라우트별 신선도(TTL) 판단은 사용하는 쪽에서 storedAt 기준으로 한다.
+ */
+@Component
+public class ResponseCacheStore {
+
+    // 캐시 대상 요청에 붙는 캐시 키 (fallback 에서 오래된 응답을 찾을 때 사용)
+    public static final String CACHE_KEY_ATTR = ResponseCacheStore.class.getName() + ".key";
+    public static final String STALE_HEADER = "X-Stale";
+
+    private final ResponseCacheProperties properties;
+    private final Cache<String, CachedResponse> entries;
+
+    public ResponseCacheStore(ResponseCacheProperties properties) {
+        this.properties = properties;
+        // max-stale 이 지난 응답은 fallback 으로도 쓰지 않으므로 그때 제거
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .expireAfterWrite(properties.getMaxStale())
+                .build();
+    }
+
+    public CachedResponse get(String key) {
+        return entries.getIfPresent(key);
+    }
+
+    /**
+     * 업스트림 장애 시 대신 내려줄 마지막 정상 응답. max-stale 을 넘었으면 null.
+     */
+    public CachedResponse getStale(String key) {
+        CachedResponse cached = entries.getIfPresent(key);
+        if (cached == null || !cached.isFresherThan(properties.getMaxStale().toNanos(), System.nanoTime())) {
+            return null;
+        }
+        return cached;
+    }
+
+    public CachedResponse put(String key, int status, HttpHeaders headers, byte[] body) {
+        CachedResponse cached = snapshot(status, headers, body);
+        if (cached != null) {
+            entries.put(key, cached);
+        }
+        return cached;
+    }
+
+    /**
+     * 저장하지 않고 응답 스냅샷만 만든다. 최대 크기를 넘으면 null.
+     */
+    public CachedResponse snapshot(int status, HttpHeaders headers, byte[] body) {
+        if (body.length > properties.getMaxBodySize()) {
+            return null;
+        }
+
+        HttpHeaders copied = new HttpHeaders();
+        headers.forEach((name, values) -> {
+            if (!isExcluded(name)) {
+                copied.put(name, values);
+            }
+        });
+        return new CachedResponse(status, HttpHeaders.readOnlyHttpHeaders(copied), body, etag(body), System.nanoTime());
+    }
+
+    /**
+     * 라우트, 메서드, 경로, 쿼리와 vary 헤더 값으로 캐시 키를 만든다.
+     */
+    public static String key(ServerWebExchange exchange, List<String> varyHeaders) {
+        ServerHttpRequest request = exchange.getRequest();
+        StringBuilder key = new StringBuilder()
+                .append(GatewayMetrics.routeId(exchange)).append(' ')
+                .append(request.getMethod().name()).append(' ')
+                .append(request.getURI().getRawPath());
+        if (request.getURI().getRawQuery() != null) {
+            key.append('?').append(request.getURI().getRawQuery());
+        }
+        for (String header : varyHeaders) {
+            key.append('|').append(header).append('=').append(request.getHeaders().getFirst(header));
+        }
+        return key.toString();
+    }
+
+    public static String etag(byte[] body) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(hash, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private boolean isExcluded(String name) {
+        if (name.regionMatches(true, 0, "Access-Control-", 0, "Access-Control-".length())) {
+            return true;
+        }
+        return properties.getExcludedHeaders().stream().anyMatch(name::equalsIgnoreCase);
+    }
+}
@@ -1,18 +1,78 @@
 package com.example.gatewayservice.config.client;
 
 import com.example.gatewayservice.dto.RefreshTokenResponseDTO;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 @Component
-@RequiredArgsConstructor
 public class AuthServiceClient {
 
     private final WebClient authClient;
+    private final Duration coalesceTtl;
+
+    // 같은 refreshToken 으로 들어온 동시 재발급 요청을 하나의 호출로 묶는다
+    private final Map<String, Flight> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter refreshRequests;
+    private final Counter refreshCalls;
+
+    public AuthServiceClient(WebClient authClient,
+                             MeterRegistry meterRegistry,
+                             @Value("${team.refresh-coalesce-ttl:5s}") Duration coalesceTtl) {
+        this.authClient = authClient;
+        this.coalesceTtl = coalesceTtl;
+        // 합쳐진 비율 = 1 - calls / requests
+        this.refreshRequests = Counter.builder("gateway.auth.refresh.requests")
+                .description("refresh-token 재발급 요청 수")
+                .register(meterRegistry);
+        this.refreshCalls = Counter.builder("gateway.auth.refresh.calls")
+                .description("auth-service 로 실제 전송된 refresh-token 호출 수")
+                .register(meterRegistry);
+    }
 
     public Mono<RefreshTokenResponseDTO> refreshToken(String refreshToken) {
+        refreshRequests.increment();
+        long now = System.nanoTime();
+        return inFlight.compute(refreshToken, (key, existing) ->
+                existing != null && !existing.isStale(now) ? existing : newFlight(key)
+        ).result();
+    }
+
+    // 공유 기간은 호출이 끝난 시점부터 잰다 → 느린 호출 도중에 새 호출이 병렬로 나가지 않음
+    private Flight newFlight(String refreshToken) {
+        Flight flight = new Flight();
+        flight.result = Mono.defer(() -> {
+                    refreshCalls.increment();
+                    return callRefreshToken(refreshToken);
+                })
+                .doOnSuccess(dto -> {
+                    if (dto != null) {
+                        flight.complete(System.nanoTime() + coalesceTtl.toNanos());
+                    }
+                })
+                .doFinally(signal -> {
+                    if (!flight.isCompleted()) {
+                        // 실패·빈 응답·취소는 공유하지 않고 다음 요청이 다시 시도하도록 바로 제거
+                        flight.complete(System.nanoTime());
+                        inFlight.remove(refreshToken, flight);
+                    } else {
+                        Mono.delay(coalesceTtl).subscribe(t -> inFlight.remove(refreshToken, flight));
+                    }
+                })
+                // 성공 결과만 잠시 공유하고, 실패는 다음 요청이 다시 시도하도록 캐시하지 않음
+                .cache(dto -> coalesceTtl, e -> Duration.ZERO, () -> Duration.ZERO);
+        return flight;
+    }
+
+    private Mono<RefreshTokenResponseDTO> callRefreshToken(String refreshToken) {
         return authClient.post()
                 .uri("/auths/refresh-token")
                 .header("Authorization", "Bearer " + refreshToken)
@@ -20,4 +80,28 @@ public class AuthServiceClient {
                 .retrieve()
                 .bodyToMono(RefreshTokenResponseDTO.class);
     }
+
+    private static final class Flight {
+        private Mono<RefreshTokenResponseDTO> result;
+        // 호출이 끝나기 전에는 0 (만료되지 않음)
+        private volatile long expiresAtNanos;
+        private volatile boolean completed;
+
+        Mono<RefreshTokenResponseDTO> result() {
+            return result;
+        }
+
+        void complete(long expiresAtNanos) {
+            this.expiresAtNanos = expiresAtNanos;
+            this.completed = true;
+        }
+
+        boolean isCompleted() {
+            return completed;
+        }
+
+        boolean isStale(long now) {
+            return completed && now - expiresAtNanos >= 0;
+        }
+    }
 }
@@ -0,0 +1,89 @@
+package com.example.gatewayservice.config.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 지연 시간 기울기(gradient) 기반 동시성 한도.
+ * <p>
+ * 장기 평균 RTT 대비 최근 RTT 가 늘어나면 백엔드에 큐가 쌓이는 것으로 보고 한도를 줄이고,
+ * 비슷하면 sqrt(limit) 만큼 여유를 더해 천천히 늘린다. 실패(5xx·타임아웃)가 나면 즉시 backoff 한다.
+ */
+public class GradientConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private final double smoothing;
+    private final double backoffRatio;
+    private final double longRttSmoothing;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+    private double longRttNanos;
+
+    public GradientConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      double rttTolerance, double smoothing, double backoffRatio, int longWindow) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.rttTolerance = rttTolerance;
+        this.smoothing = smoothing;
+        this.backoffRatio = backoffRatio;
+        this.longRttSmoothing = 2.0 / (longWindow + 1);
+    }
+
+    /**
+     * @return 한도 안이면 true. true 를 받은 호출은 반드시 onSuccess/onDropped/onIgnore 중 하나로 끝내야 한다.
+     */
+    public boolean tryAcquire() {
+        int current = inFlight.incrementAndGet();
+        if (current > (int) limit) {
+            inFlight.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    public void onSuccess(long rttNanos) {
+        int current = inFlight.getAndDecrement();
+        update(rttNanos, current);
+    }
+
+    public void onDropped() {
+        inFlight.decrementAndGet();
+        synchronized (this) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        }
+    }
+
+    public void onIgnore() {
+        inFlight.decrementAndGet();
+    }
+
+    private synchronized void update(long rttNanos, int inFlightAtCompletion) {
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+            return;
+        }
+        longRttNanos = longRttNanos * (1 - longRttSmoothing) + rttNanos * longRttSmoothing;
+
+        // 한도의 절반도 쓰지 않는 상황에서는 측정값이 부하를 반영하지 못하므로 한도를 늘리지 않음
+        if (inFlightAtCompletion < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRttNanos / rttNanos));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        newLimit = limit * (1 - smoothing) + newLimit * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.gatewayservice.config.filter;
+
+import com.example.gatewayservice.config.concurrency.GradientConcurrencyLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.support.HasRouteId;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.DispatcherHandler;
+import reactor.core.publisher.SignalType;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 라우트별 적응형 동시성 제한.
+ * 백엔드 지연 시간 변화로 허용 동시 요청 수를 학습하고, 한도를 넘는 요청은 업스트림에 보내지 않고
+ * 곧바로 /fallback/static 으로 넘긴다.
+ */
+@Slf4j
+@Component
+public class AdaptiveConcurrencyFilter extends AbstractGatewayFilterFactory<AdaptiveConcurrencyFilter.Config> {
+
+    private static final String FALLBACK_PATH = "/fallback/static";
+
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<DispatcherHandler> dispatcherHandler;
+
+    // 라우트가 갱신되면 apply 가 다시 호출되므로 게이지는 라우트당 한 번만 등록하고 뒤의 limiter 만 교체한다
+    private final Map<String, AtomicReference<GradientConcurrencyLimiter>> limiters = new ConcurrentHashMap<>();
+
+    public AdaptiveConcurrencyFilter(MeterRegistry meterRegistry, ObjectProvider<DispatcherHandler> dispatcherHandler) {
+        super(Config.class);
+        this.meterRegistry = meterRegistry;
+        this.dispatcherHandler = dispatcherHandler;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        String routeId = config.getRouteId() != null ? config.getRouteId() : "unknown";
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(
+                config.getInitialLimit(), config.getMinLimit(), config.getMaxLimit(),
+                config.getRttTolerance(), config.getSmoothing(), config.getBackoffRatio(), config.getLongWindow());
+
+        limiters.computeIfAbsent(routeId, this::registerGauges).set(limiter);
+        Counter rejected = Counter.builder("gateway.concurrency.rejected")
+                .tag("route", routeId)
+                .register(meterRegistry);
+
+        return (exchange, chain) -> {
+            if (!limiter.tryAcquire()) {
+                rejected.increment();
+                log.warn("동시성 한도 초과로 요청 차단: route={}, limit={}", routeId, limiter.getLimit());
+                ServerHttpRequest fallbackRequest = exchange.getRequest().mutate().path(FALLBACK_PATH).build();
+                return dispatcherHandler.getObject().handle(exchange.mutate().request(fallbackRequest).build());
+            }
+
+            long start = System.nanoTime();
+            return chain.filter(exchange)
+                    .doFinally(signal -> {
+                        HttpStatusCode status = exchange.getResponse().getStatusCode();
+                        if (signal == SignalType.ON_ERROR || (status != null && status.is5xxServerError())) {
+                            limiter.onDropped();
+                        } else if (signal == SignalType.CANCEL) {
+                            limiter.onIgnore();
+                        } else {
+                            limiter.onSuccess(System.nanoTime() - start);
+                        }
+                    });
+        };
+    }
+
+    private AtomicReference<GradientConcurrencyLimiter> registerGauges(String routeId) {
+        AtomicReference<GradientConcurrencyLimiter> current = new AtomicReference<>();
+        Gauge.builder("gateway.concurrency.limit", current, ref -> ref.get().getLimit())
+                .tag("route", routeId)
+                .register(meterRegistry);
+        Gauge.builder("gateway.concurrency.in-flight", current, ref -> ref.get().getInFlight())
+                .tag("route", routeId)
+                .register(meterRegistry);
+        return current;
+    }
+
+    @Getter
+    @Setter
+    public static class Config implements HasRouteId {
+        private String routeId;
+        private int initialLimit = 20;
+        private int minLimit = 5;
+        private int maxLimit = 200;
+        // 장기 평균 대비 허용할 RTT 증가 비율
+        private double rttTolerance = 1.5;
+        private double smoothing = 0.2;
+        private double backoffRatio = 0.9;
+        // 장기 평균 RTT 를 계산할 샘플 수
+        private int longWindow = 600;
+    }
+}
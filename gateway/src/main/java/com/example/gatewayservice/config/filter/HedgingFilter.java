@@ -0,0 +1,203 @@
+package com.example.gatewayservice.config.filter;
+
+import com.example.gatewayservice.config.hedge.HedgeBudget;
+import com.example.gatewayservice.config.hedge.LatencyTracker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.support.HasRouteId;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebExchangeDecorator;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 멱등 GET 요청에 대한 hedged request.
+ * 첫 요청이 최근 응답 시간의 분위수(기본 p95) 안에 응답 헤더를 받지 못하면 같은 요청을 한 번 더 보내고,
+ * 먼저 도착한 응답을 쓰고 나머지는 취소한다. 추가 요청 비율은 budget-percent 로 제한한다.
+ * <p>
+ * 업스트림 호출은 이 필터 뒤의 라우팅 체인(LoadBalancer, NettyRoutingFilter)을 시도마다 다시 실행해서 보낸다.
+ * 그래서 게이트웨이 HttpClient 설정, 헤더 필터, 업스트림 지연 측정이 그대로 적용되고,
+ * 본문은 이긴 시도의 커넥션에서 NettyWriteResponseFilter 가 스트리밍한다.
+ * 시도마다 exchange 속성과 응답 상태·헤더를 따로 두었다가 이긴 쪽만 원래 exchange 로 옮긴다.
+ * 라우트 필터 목록의 마지막에 두어야 한다.
+ */
+@Component
+public class HedgingFilter extends AbstractGatewayFilterFactory<HedgingFilter.Config> {
+
+    private final MeterRegistry meterRegistry;
+
+    public HedgingFilter(MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        String routeId = config.getRouteId() != null ? config.getRouteId() : "unknown";
+        PathPatternParser parser = new PathPatternParser();
+        List<PathPattern> patterns = config.getPaths().stream().map(parser::parse).toList();
+
+        LatencyTracker latency = new LatencyTracker(1_000, config.getPercentile(), config.getMaxDelay().toNanos());
+        HedgeBudget budget = new HedgeBudget(config.getBudgetPercent() / 100.0, 10);
+        Counter hedges = Counter.builder("gateway.hedging.requests").tag("route", routeId).register(meterRegistry);
+
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            // 캐시·병합 필터가 이미 응답을 맡은 요청은 업스트림을 호출하지 않는다
+            if (request.getMethod() != HttpMethod.GET || !matches(patterns, request)
+                    || ServerWebExchangeUtils.isAlreadyRouted(exchange)) {
+                return chain.filter(exchange);
+            }
+
+            budget.deposit();
+            long delayNanos = Math.max(config.getMinDelay().toNanos(),
+                    Math.min(config.getMaxDelay().toNanos(), latency.getQuantileNanos()));
+
+            long start = System.nanoTime();
+            AtomicReference<Attempt> winner = new AtomicReference<>();
+            Mono<Attempt> hedge = Mono.delay(Duration.ofNanos(delayNanos))
+                    .filter(tick -> budget.tryWithdraw())
+                    .flatMap(tick -> {
+                        hedges.increment();
+                        return attempt(exchange, chain, winner);
+                    });
+
+            return Mono.firstWithValue(attempt(exchange, chain, winner), hedge)
+                    .doOnNext(won -> latency.record(System.nanoTime() - start))
+                    .flatMap(won -> {
+                        won.applyTo(exchange);
+                        return Mono.<Void>empty();
+                    });
+        };
+    }
+
+    /**
+     * 남은 라우팅 체인을 독립된 속성·응답으로 한 번 실행한다. 응답 헤더를 받으면 끝나고, 먼저 끝난 시도만 값을 낸다.
+     * 진 시도는 취소되거나 값 없이 끝나며, 이미 받아 둔 업스트림 커넥션은 닫는다.
+     */
+    private Mono<Attempt> attempt(ServerWebExchange exchange, GatewayFilterChain chain, AtomicReference<Attempt> winner) {
+        return Mono.defer(() -> {
+            Attempt attempt = new Attempt(exchange);
+            return chain.filter(attempt)
+                    .then(Mono.fromSupplier(() -> attempt))
+                    .filter(done -> winner.compareAndSet(null, done))
+                    .doFinally(signal -> {
+                        if (winner.get() != attempt) {
+                            attempt.dispose();
+                        }
+                    });
+        });
+    }
+
+    private static final class Attempt extends ServerWebExchangeDecorator {
+
+        private final Map<String, Object> attributes;
+        private final CapturedResponse response;
+
+        private Attempt(ServerWebExchange exchange) {
+            super(exchange);
+            this.attributes = new ConcurrentHashMap<>(exchange.getAttributes());
+            this.response = new CapturedResponse(exchange.getResponse());
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public ServerHttpResponse getResponse() {
+            return response;
+        }
+
+        // 업스트림 응답 상태·헤더와 커넥션 등 라우팅 속성을 원래 exchange 로 옮긴다
+        private void applyTo(ServerWebExchange exchange) {
+            exchange.getAttributes().putAll(attributes);
+            ServerHttpResponse target = exchange.getResponse();
+            if (response.status != null) {
+                target.setStatusCode(response.status);
+            }
+            target.getHeaders().putAll(response.headers);
+        }
+
+        private void dispose() {
+            Connection connection = (Connection) attributes.get(ServerWebExchangeUtils.CLIENT_RESPONSE_CONN_ATTR);
+            if (connection != null) {
+                connection.dispose();
+            }
+        }
+    }
+
+    // 시도가 끝나기 전까지는 실제 응답을 건드리지 않도록 상태와 헤더를 따로 보관한다
+    private static final class CapturedResponse extends ServerHttpResponseDecorator {
+
+        private final HttpHeaders headers = new HttpHeaders();
+        private HttpStatusCode status;
+
+        private CapturedResponse(ServerHttpResponse delegate) {
+            super(delegate);
+            headers.addAll(delegate.getHeaders());
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public boolean setStatusCode(HttpStatusCode status) {
+            this.status = status;
+            return true;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() {
+            return status != null ? status : super.getStatusCode();
+        }
+    }
+
+    private boolean matches(List<PathPattern> patterns, ServerHttpRequest request) {
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(request.getPath().pathWithinApplication())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Getter
+    @Setter
+    public static class Config implements HasRouteId {
+        private String routeId;
+        // hedge 대상 경로 (PathPattern 문법)
+        private List<String> paths = new ArrayList<>();
+        // 이 분위수의 응답 시간이 지나면 추가 요청
+        private double percentile = 0.95;
+        private Duration minDelay = Duration.ofMillis(20);
+        private Duration maxDelay = Duration.ofSeconds(1);
+        // 전체 요청 대비 추가 요청 허용 비율(%)
+        private double budgetPercent = 5;
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.gatewayservice.config.filter;
+
+import com.example.gatewayservice.config.metrics.GatewayMetrics;
+import com.example.gatewayservice.config.shedding.EventLoopLagMonitor;
+import com.example.gatewayservice.config.shedding.LoadSheddingProperties;
+import com.example.gatewayservice.config.shedding.Priority;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 우선순위 기반 부하 차단.
+ * 게이트웨이 전체 동시 요청 수와 이벤트 루프 지연으로 부하(0.0 ~ 1.0+)를 계산하고,
+ * 부하가 우선순위별 임계값을 넘으면 낮은 우선순위 요청부터 503 + Retry-After 로 돌려보낸다.
+ * 결제(CRITICAL) 요청은 차단하지 않는다.
+ */
+@Component
+public class LoadSheddingFilter implements GlobalFilter, Ordered {
+
+    private final LoadSheddingProperties properties;
+    private final EventLoopLagMonitor lagMonitor;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<String, Counter> rejectedCounters = new ConcurrentHashMap<>();
+
+    public LoadSheddingFilter(LoadSheddingProperties properties, EventLoopLagMonitor lagMonitor, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.lagMonitor = lagMonitor;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("gateway.load-shedding.in-flight", inFlight, AtomicInteger::get)
+                .register(meterRegistry);
+        Gauge.builder("gateway.load-shedding.pressure", this, LoadSheddingFilter::pressure)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!properties.isEnabled()) {
+            return chain.filter(exchange);
+        }
+
+        String routeId = GatewayMetrics.routeId(exchange);
+        Priority priority = properties.getRoutes().getOrDefault(routeId, properties.getDefaultPriority());
+        Double threshold = properties.getThresholds().get(priority);
+        if (threshold != null && pressure() >= threshold) {
+            return reject(exchange, routeId, priority);
+        }
+
+        // WebSocket 연결과 long-lived-routes(영상 스트리밍·업로드)는 수명이 길어 동시 요청 수에 넣지 않는다
+        // (WebSocket 은 GuardedWebSocketService 가 따로 제한)
+        if ("websocket".equalsIgnoreCase(exchange.getRequest().getHeaders().getUpgrade())
+                || properties.getLongLivedRoutes().contains(routeId)) {
+            return chain.filter(exchange);
+        }
+
+        inFlight.incrementAndGet();
+        return chain.filter(exchange)
+                .doFinally(signal -> inFlight.decrementAndGet());
+    }
+
+    double pressure() {
+        double inFlightRatio = (double) inFlight.get() / properties.getMaxInFlight();
+        double lagRatio = (double) lagMonitor.getLagNanos() / properties.getMaxEventLoopLag().toNanos();
+        return Math.max(inFlightRatio, lagRatio);
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, String routeId, Priority priority) {
+        rejectedCounters.computeIfAbsent(routeId + "|" + priority, key -> Counter.builder("gateway.load-shedding.rejected")
+                        .tag("route", routeId)
+                        .tag("priority", priority.name())
+                        .register(meterRegistry))
+                .increment();
+
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, properties.getRetryAfter().toSeconds())));
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        byte[] body = "{\"message\": \"요청이 많아 잠시 후 다시 시도해 주세요.\"}".getBytes(StandardCharsets.UTF_8);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    // 접근 로그(RequestLoggingFilter)에는 남기고, 인증·레이트리밋 등 라우트 필터보다는 먼저 실행
+    @Override
+    public int getOrder() {
+        return 0;
+    }
+}
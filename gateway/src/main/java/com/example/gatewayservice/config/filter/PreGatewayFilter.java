@@ -1,16 +1,18 @@
 package com.example.gatewayservice.config.filter;
 
-import com.example.gatewayservice.config.WhitelistProperties;
+import com.example.gatewayservice.config.WhitelistMatcher;
 import com.example.gatewayservice.config.client.AuthServiceClient;
 import com.example.gatewayservice.config.jwt.TokenProvider;
+import com.example.gatewayservice.config.metrics.GatewayMetrics;
+import com.example.gatewayservice.config.redis.SessionTokenCache;
 import com.example.gatewayservice.dto.ClaimsResponseDTO;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
 import org.springframework.core.annotation.Order;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
@@ -26,43 +28,53 @@ import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 public class PreGatewayFilter extends AbstractGatewayFilterFactory<PreGatewayFilter.Config> {
 
     private final TokenProvider tokenProvider;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final SessionTokenCache sessionTokenCache;
     private final AuthServiceClient authServiceClient;
+    private final WhitelistMatcher whitelistMatcher;
+    private final GatewayMetrics gatewayMetrics;
 
     public PreGatewayFilter(TokenProvider tokenProvider,
-                            RedisTemplate<String, String> redisTemplate,
-                            AuthServiceClient authServiceClient) {
+                            SessionTokenCache sessionTokenCache,
+                            AuthServiceClient authServiceClient,
+                            WhitelistMatcher whitelistMatcher,
+                            GatewayMetrics gatewayMetrics) {
         super(Config.class);
         this.tokenProvider = tokenProvider;
-        this.redisTemplate = redisTemplate;
+        this.sessionTokenCache = sessionTokenCache;
         this.authServiceClient = authServiceClient;
+        this.whitelistMatcher = whitelistMatcher;
+        this.gatewayMetrics = gatewayMetrics;
     }
 
     @Override
     public GatewayFilter apply(Config config) {
-        return (exchange, chain) -> {
+        return (exchange, nextChain) -> {
+            // 인증 단계 소요 시간(다음 필터로 넘기기까지)을 기록
+            GatewayFilterChain chain = gatewayMetrics.timed(exchange, GatewayMetrics.STAGE_AUTH, nextChain);
             String token = exchange.getRequest().getHeaders().getFirst(AUTHORIZATION);
-            String path = exchange.getRequest().getURI().getPath();
 
-            // ✅ 인증 없이 통과할 경로 예외 처리
-            if (path.matches("^/lectures/video/\\d+/stream$")) {
+            // ✅ 인증 없이 통과할 경로 예외 처리 (미리 컴파일된 화이트리스트)
+            if (whitelistMatcher.matches(exchange.getRequest().getPath().pathWithinApplication())) {
                 return chain.filter(exchange);
             }
 
             if (token == null || !token.toLowerCase().startsWith(config.getTokenPrefix().toLowerCase())) {
                 log.warn("Authorization 헤더 누락 또는 Bearer 없음");
+                gatewayMetrics.jwtOutcome(GatewayMetrics.JWT_REJECTED);
                 exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
                 return exchange.getResponse().setComplete();
             }
 
             String pureToken = token.substring(config.getTokenPrefix().length());
-            int status = tokenProvider.validateToken(pureToken);
+            ClaimsResponseDTO verified = tokenProvider.verify(exchange, pureToken);
+            int status = verified.getStatus();
 
-            if (status == 2) { // 만료
+            if (status == TokenProvider.EXPIRED) { // 만료
                 log.warn("토큰 만료 → refreshToken 요청 시도");
                 String refreshToken = extractRefreshTokenFromCookie(exchange.getRequest());
 
                 if (refreshToken == null) {
+                    gatewayMetrics.jwtOutcome(GatewayMetrics.JWT_REJECTED);
                     exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
                     return exchange.getResponse().setComplete();
                 }
@@ -71,6 +83,7 @@ public class PreGatewayFilter extends AbstractGatewayFilterFactory<PreGatewayFil
                         .flatMap(dto -> {
                             if (!dto.isSuccess()) {
                                 log.warn("refresh 실패: {}", dto.getMessage());
+                                gatewayMetrics.jwtOutcome(GatewayMetrics.JWT_REJECTED);
 
                                 exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
                                 exchange.getResponse().getHeaders().add("Content-Type", "application/json");
@@ -82,7 +95,14 @@ public class PreGatewayFilter extends AbstractGatewayFilterFactory<PreGatewayFil
                             }
 
                             // 성공 로직은 동일
-                            ClaimsResponseDTO claims = tokenProvider.getAuthentication(dto.getAccessToken());
+                            ClaimsResponseDTO claims = tokenProvider.verify(dto.getAccessToken());
+                            if (claims.getStatus() != TokenProvider.VALID) {
+                                return Mono.error(new IllegalStateException("재발급된 토큰 검증 실패"));
+                            }
+                            // 이후 필터(SmartKeyResolver 등)가 재발급 토큰 기준으로 동작하도록 갱신
+                            exchange.getAttributes().put(TokenProvider.VERIFIED_CLAIMS_ATTR, claims);
+                            gatewayMetrics.jwtOutcome(GatewayMetrics.JWT_EXPIRED_REFRESHED);
+
                             ServerHttpRequest modifiedRequest = exchange.getRequest().mutate()
                                     .header("X-User-Token", dto.getAccessToken())
                                     .header("X-User-Id", String.valueOf(claims.getId()))
@@ -94,6 +114,7 @@ public class PreGatewayFilter extends AbstractGatewayFilterFactory<PreGatewayFil
                         })
                         .onErrorResume(e -> {
                             log.error("refresh-token 호출 중 예외 발생", e);
+                            gatewayMetrics.jwtOutcome(GatewayMetrics.JWT_REJECTED);
 
                             exchange.getResponse().setStatusCode(HttpStatus.INTERNAL_SERVER_ERROR);
                             exchange.getResponse().getHeaders().add("Content-Type", "application/json");
@@ -105,29 +126,33 @@ public class PreGatewayFilter extends AbstractGatewayFilterFactory<PreGatewayFil
                         });
             }
 
-            if (status != 1) {
+            if (status != TokenProvider.VALID) {
                 log.error("토큰 검증 실패 또는 기타 예외");
+                gatewayMetrics.jwtOutcome(GatewayMetrics.JWT_REJECTED);
                 exchange.getResponse().setStatusCode(HttpStatus.INTERNAL_SERVER_ERROR);
                 return exchange.getResponse().setComplete();
             }
 
-            ClaimsResponseDTO claims = tokenProvider.getAuthentication(pureToken);
-            String savedToken = redisTemplate.opsForValue().get("accessToken:" + claims.getId());
-
-            if (savedToken == null || !savedToken.equals(pureToken)) {
-                log.warn("Redis 저장 토큰과 요청 토큰 불일치");
-                exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
-                return exchange.getResponse().setComplete();
-            }
-
-            ServerHttpRequest modifiedRequest = exchange.getRequest().mutate()
-                    .header("X-User-Token", pureToken)
-                    .header("X-User-Id", String.valueOf(claims.getId()))
-                    .header("X-User-Nickname", claims.getNickname())
-                    .header("X-User-ProfileImage", claims.getProfileImage())
-                    .build();
-
-            return chain.filter(exchange.mutate().request(modifiedRequest).build());
+            // ✅ 로컬 세션 캐시 우선, 없거나 불일치 시 Redis 조회 (이벤트 루프 블로킹 없음)
+            return sessionTokenCache.matches(verified.getId(), pureToken)
+                    .flatMap(matched -> {
+                        if (!matched) {
+                            log.warn("Redis 저장 토큰과 요청 토큰 불일치");
+                            gatewayMetrics.jwtOutcome(GatewayMetrics.JWT_REJECTED);
+                            exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+                            return exchange.getResponse().setComplete();
+                        }
+
+                        gatewayMetrics.jwtOutcome(GatewayMetrics.JWT_VALID);
+                        ServerHttpRequest modifiedRequest = exchange.getRequest().mutate()
+                                .header("X-User-Token", pureToken)
+                                .header("X-User-Id", String.valueOf(verified.getId()))
+                                .header("X-User-Nickname", verified.getNickname())
+                                .header("X-User-ProfileImage", verified.getProfileImage())
+                                .build();
+
+                        return chain.filter(exchange.mutate().request(modifiedRequest).build());
+                    });
         };
     }
 
@@ -0,0 +1,151 @@
+package com.example.gatewayservice.config.filter;
+
+import com.example.gatewayservice.config.cache.CachedResponse;
+import com.example.gatewayservice.config.cache.ResponseCacheStore;
+import com.example.gatewayservice.config.metrics.GatewayMetrics;
+import lombok.Getter;
+import lombok.Setter;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 같은 라우트·경로·쿼리·vary 헤더를 가진 동시 GET 요청을 하나의 업스트림 호출로 합친다.
+ * 먼저 들어온 요청(leader)의 응답을 기다리던 요청들에게 그대로 복사해 준다.
+ * leader 응답을 공유할 수 없으면(본문 없음, 크기 초과, 취소, 인증 거절) 대기하던 요청은 각자 업스트림을 호출한다.
+ * <p>
+ * leader 의 응답 본문을 받으려면 NettyWriteResponseFilter 보다 앞 순서여야 하므로 인증 필터보다 먼저 실행된다.
+ * 대기하던 요청도 체인(인증·레이트리밋)은 그대로 거치고, 업스트림 호출만 건너뛴 뒤 거절되지 않았을 때 공유 응답을 쓴다.
+ */
+@Component
+public class RequestCoalescingFilter extends AbstractGatewayFilterFactory<RequestCoalescingFilter.Config> {
+
+    private final ResponseCacheStore responseCacheStore;
+    private final GatewayMetrics gatewayMetrics;
+
+    private final Map<String, Sinks.One<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public RequestCoalescingFilter(ResponseCacheStore responseCacheStore, GatewayMetrics gatewayMetrics) {
+        super(Config.class);
+        this.responseCacheStore = responseCacheStore;
+        this.gatewayMetrics = gatewayMetrics;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        PathPatternParser parser = new PathPatternParser();
+        List<PathPattern> patterns = config.getPaths().stream().map(parser::parse).toList();
+
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            // 캐시 적중으로 이미 응답이 정해진 요청은 병합하지 않는다
+            if (request.getMethod() != HttpMethod.GET || !matches(patterns, request)
+                    || ServerWebExchangeUtils.isAlreadyRouted(exchange)) {
+                return chain.filter(exchange);
+            }
+
+            String routeId = GatewayMetrics.routeId(exchange);
+            String key = ResponseCacheStore.key(exchange, config.getVaryHeaders());
+            Sinks.One<CachedResponse> sink = Sinks.one();
+            Sinks.One<CachedResponse> existing = inFlight.putIfAbsent(key, sink);
+
+            if (existing != null) {
+                gatewayMetrics.coalescing(routeId, "collapsed");
+                return existing.asMono()
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty())
+                        .flatMap(shared -> shared.isPresent()
+                                ? writeShared(exchange, chain, shared.get())
+                                : chain.filter(exchange));
+            }
+
+            gatewayMetrics.coalescing(routeId, "leader");
+            ServerHttpResponse sharing = sharingResponse(exchange, sink);
+            // 이 순서에서는 체인이 끝날 때 본문 쓰기도 끝나 있다
+            return chain.filter(exchange.mutate().response(sharing).build())
+                    .doFinally(signal -> {
+                        inFlight.remove(key, sink);
+                        sink.tryEmitEmpty();
+                    });
+        }, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1);
+    }
+
+    private Mono<Void> writeShared(ServerWebExchange exchange, GatewayFilterChain chain, CachedResponse shared) {
+        ServerWebExchangeUtils.setAlreadyRouted(exchange);
+        return chain.filter(exchange)
+                .then(Mono.defer(() -> exchange.getResponse().isCommitted()
+                        ? Mono.empty()
+                        : shared.writeTo(exchange.getResponse())));
+    }
+
+    private boolean matches(List<PathPattern> patterns, ServerHttpRequest request) {
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(request.getPath().pathWithinApplication())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private ServerHttpResponse sharingResponse(ServerWebExchange exchange, Sinks.One<CachedResponse> sink) {
+        return new ServerHttpResponseDecorator(exchange.getResponse()) {
+            @Override
+            public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                // 게이트웨이 필터가 직접 쓴 거절 응답(401, 429 등)은 leader 에게만 해당하므로 공유하지 않는다
+                if (exchange.getAttribute(ServerWebExchangeUtils.CLIENT_RESPONSE_CONN_ATTR) == null) {
+                    return super.writeWith(body);
+                }
+                HttpStatusCode status = getStatusCode();
+                return DataBufferUtils.join(body)
+                        .defaultIfEmpty(bufferFactory().wrap(new byte[0]))
+                        .flatMap(joined -> {
+                            byte[] bytes = new byte[joined.readableByteCount()];
+                            joined.read(bytes);
+                            DataBufferUtils.release(joined);
+
+                            CachedResponse shared = responseCacheStore.snapshot(status != null ? status.value() : 200, getHeaders(), bytes);
+                            if (shared != null) {
+                                sink.tryEmitValue(shared);
+                            }
+
+                            getHeaders().remove(HttpHeaders.TRANSFER_ENCODING);
+                            getHeaders().setContentLength(bytes.length);
+                            return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                        });
+            }
+        };
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+        // 병합을 허용할 경로 (PathPattern 문법)
+        private List<String> paths = new ArrayList<>();
+        // 사용자별로 응답이 다른 경로는 Authorization 등을 포함해야 한다
+        private List<String> varyHeaders = new ArrayList<>();
+    }
+}
@@ -1,27 +1,87 @@
 package com.example.gatewayservice.config.filter;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.example.gatewayservice.config.log.AccessLogProperties;
+import com.example.gatewayservice.config.log.AccessLogWriter;
+import lombok.RequiredArgsConstructor;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
 import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
 
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청 완료 후 메서드, 라우트, 상태 코드, 게이트웨이 전체 지연 시간, 업스트림 호출 시간, 응답 바이트를 접근 로그로 남긴다.
+ * 정상 응답은 샘플링하고, 에러와 느린 요청은 모두 기록한다.
+ */
 @Component
+@RequiredArgsConstructor
 public class RequestLoggingFilter implements GlobalFilter, Ordered {
 
-    private static final Logger log = LoggerFactory.getLogger(RequestLoggingFilter.class);
+    private final AccessLogWriter accessLogWriter;
+    private final AccessLogProperties properties;
 
     @Override
-    public Mono<Void> filter(ServerWebExchange exchange, org.springframework.cloud.gateway.filter.GatewayFilterChain chain) {
-        log.info("Incoming request: {} {}", exchange.getRequest().getMethod(), exchange.getRequest().getURI());
-        return chain.filter(exchange);
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long start = System.nanoTime();
+        AtomicLong bytes = new AtomicLong();
+
+        ServerHttpResponse countingResponse = new ServerHttpResponseDecorator(exchange.getResponse()) {
+            @Override
+            public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                return super.writeWith(Flux.from(body).doOnNext(buffer -> bytes.addAndGet(buffer.readableByteCount())));
+            }
+
+            @Override
+            public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+                return super.writeAndFlushWith(Flux.from(body).map(chunk ->
+                        Flux.from(chunk).doOnNext(buffer -> bytes.addAndGet(buffer.readableByteCount()))));
+            }
+        };
+
+        return chain.filter(exchange.mutate().response(countingResponse).build())
+                .doFinally(signal -> record(exchange, signal, System.nanoTime() - start, bytes.get()));
+    }
+
+    private void record(ServerWebExchange exchange, SignalType signal, long elapsedNanos, long bytes) {
+        HttpStatusCode statusCode = exchange.getResponse().getStatusCode();
+        int status = signal == SignalType.ON_ERROR ? 500 : statusCode != null ? statusCode.value() : 200;
+        long latencyMillis = elapsedNanos / 1_000_000;
+
+        boolean error = status >= 400;
+        boolean slow = elapsedNanos >= properties.getSlowThreshold().toNanos();
+        if (!error && !slow && ThreadLocalRandom.current().nextDouble() >= properties.getSuccessSampleRate()) {
+            return;
+        }
+
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        Long upstreamNanos = exchange.getAttribute(UpstreamLatencyFilter.UPSTREAM_NANOS_ATTR);
+        accessLogWriter.write(new AccessLogWriter.AccessLogEntry(
+                exchange.getRequest().getMethod().name(),
+                exchange.getRequest().getPath().value(),
+                route != null ? route.getId() : "-",
+                status,
+                latencyMillis,
+                upstreamNanos != null ? upstreamNanos / 1_000_000 : -1,
+                bytes));
     }
 
-    // Order 값을 낮게 설정하여 다른 필터보다 먼저 실행되게
+    // 응답을 쓰는 NettyWriteResponseFilter, 응답을 감싸는 라우트 필터(캐시·병합·영상)보다 먼저 실행되어야 최종 바이트 수를 셀 수 있음
     @Override
     public int getOrder() {
-        return -1;
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 2;
     }
-}
\ No newline at end of file
+}
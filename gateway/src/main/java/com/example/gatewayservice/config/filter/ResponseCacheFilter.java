@@ -0,0 +1,177 @@
+package com.example.gatewayservice.config.filter;
+
+import com.example.gatewayservice.config.cache.CachedResponse;
+import com.example.gatewayservice.config.cache.ResponseCacheProperties;
+import com.example.gatewayservice.config.cache.ResponseCacheStore;
+import lombok.Getter;
+import lombok.Setter;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 설정된 GET 경로의 응답을 게이트웨이에 캐시하고 ETag / If-None-Match(304)를 처리한다.
+ * 캐시가 신선한 동안에는 업스트림으로 요청을 보내지 않는다.
+ * TTL 이 지난 응답도 max-stale 동안은 남겨 두고, 업스트림 장애 시 fallback 이 대신 내려준다.
+ * <p>
+ * NettyWriteResponseFilter 는 자신이 받은 exchange 의 응답에 본문을 쓰므로, ModifyResponseBody 와 같이
+ * 그보다 앞 순서로 응답을 감싸야 본문을 받을 수 있다. 이 순서에서는 인증·레이트리밋 필터가 아직 실행되지 않았으므로
+ * 캐시 적중 시에도 체인은 그대로 통과시키고 업스트림 호출만 건너뛴 뒤(already routed), 거절되지 않은 요청에만 캐시를 쓴다.
+ * <p>
+ * max-body-size 를 넘는 응답은 모으지 않는다. Content-Length 가 이미 크면 처음부터 그대로 흘려보내고,
+ * 길이를 모르면 모으다가 한도를 넘는 순간 모은 것과 나머지를 그대로 흘려보낸다.
+ */
+@Component
+public class ResponseCacheFilter extends AbstractGatewayFilterFactory<ResponseCacheFilter.Config> {
+
+    private static final String CACHE_HEADER = "X-Cache";
+
+    private final ResponseCacheStore responseCacheStore;
+    private final ResponseCacheProperties properties;
+
+    public ResponseCacheFilter(ResponseCacheStore responseCacheStore, ResponseCacheProperties properties) {
+        super(Config.class);
+        this.responseCacheStore = responseCacheStore;
+        this.properties = properties;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        PathPatternParser parser = new PathPatternParser();
+        List<PathPattern> patterns = config.getPaths().stream().map(parser::parse).toList();
+        long ttlNanos = config.getTtl().toNanos();
+
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (request.getMethod() != HttpMethod.GET || !matches(patterns, request)) {
+                return chain.filter(exchange);
+            }
+
+            String key = ResponseCacheStore.key(exchange, config.getVaryHeaders());
+            exchange.getAttributes().put(ResponseCacheStore.CACHE_KEY_ATTR, key);
+            CachedResponse cached = responseCacheStore.get(key);
+            if (cached != null && cached.isFresherThan(ttlNanos, System.nanoTime())) {
+                ServerWebExchangeUtils.setAlreadyRouted(exchange);
+                return chain.filter(exchange)
+                        .then(Mono.defer(() -> exchange.getResponse().isCommitted()
+                                ? Mono.empty()
+                                : writeCached(exchange, cached)));
+            }
+
+            exchange.getResponse().getHeaders().set(CACHE_HEADER, "MISS");
+            ServerHttpResponse caching = cachingResponse(exchange, exchange.getResponse(), key);
+            return chain.filter(exchange.mutate().response(caching).build());
+        }, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1);
+    }
+
+    private boolean matches(List<PathPattern> patterns, ServerHttpRequest request) {
+        if (patterns.isEmpty()) {
+            return true;
+        }
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(request.getPath().pathWithinApplication())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Mono<Void> writeCached(ServerWebExchange exchange, CachedResponse cached) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.getHeaders().setETag(cached.etag());
+        response.getHeaders().set(CACHE_HEADER, "HIT");
+
+        if (notModified(exchange.getRequest(), cached.etag())) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+        return cached.writeTo(response);
+    }
+
+    private ServerHttpResponse cachingResponse(ServerWebExchange exchange, ServerHttpResponse delegate, String key) {
+        return new ServerHttpResponseDecorator(delegate) {
+            @Override
+            public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                HttpStatusCode status = getStatusCode();
+                // fallback 이 내려주는 오래된 응답은 다시 저장하지 않는다
+                if (status == null || status.value() != HttpStatus.OK.value()
+                        || getHeaders().containsKey(ResponseCacheStore.STALE_HEADER)
+                        || getHeaders().getContentLength() > properties.getMaxBodySize()) {
+                    return super.writeWith(body);
+                }
+
+                // 누적 크기가 한도를 넘은 뒤로는 버퍼마다 바로 내보내므로, 첫 묶음이 한도 이내면 본문 전체다
+                AtomicLong size = new AtomicLong();
+                return Flux.from(body)
+                        .bufferUntil(buffer -> size.addAndGet(buffer.readableByteCount()) > properties.getMaxBodySize())
+                        .switchOnFirst((first, buffers) -> size.get() > properties.getMaxBodySize()
+                                ? super.writeWith(buffers.concatMapIterable(buffered -> buffered))
+                                : cache(buffers.next().flatMap(buffered -> DataBufferUtils.join(Flux.fromIterable(buffered)))))
+                        .then();
+            }
+
+            private Mono<Void> cache(Mono<DataBuffer> body) {
+                HttpStatusCode status = getStatusCode();
+                return body
+                        .defaultIfEmpty(bufferFactory().wrap(new byte[0]))
+                        .flatMap(joined -> {
+                            byte[] bytes = new byte[joined.readableByteCount()];
+                            joined.read(bytes);
+                            DataBufferUtils.release(joined);
+
+                            CachedResponse cached = responseCacheStore.put(key, status.value(), getHeaders(), bytes);
+                            String etag = cached != null ? cached.etag() : ResponseCacheStore.etag(bytes);
+                            getHeaders().setETag(etag);
+                            getHeaders().remove(HttpHeaders.TRANSFER_ENCODING);
+
+                            if (notModified(exchange.getRequest(), etag)) {
+                                setStatusCode(HttpStatus.NOT_MODIFIED);
+                                getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+                                return getDelegate().setComplete();
+                            }
+
+                            getHeaders().setContentLength(bytes.length);
+                            return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                        });
+            }
+        };
+    }
+
+    private boolean notModified(ServerHttpRequest request, String etag) {
+        List<String> ifNoneMatch = request.getHeaders().getIfNoneMatch();
+        return ifNoneMatch.contains(etag) || ifNoneMatch.contains("*");
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+        // 캐시할 경로 (PathPattern 문법, 비어 있으면 라우트의 모든 GET)
+        private List<String> paths = new ArrayList<>();
+        private Duration ttl = Duration.ofSeconds(30);
+        // 캐시 키에 포함할 요청 헤더
+        private List<String> varyHeaders = new ArrayList<>();
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.gatewayservice.config.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대용량 업로드 라우트 필터.
+ * 요청 본문을 모으지 않고 받은 청크를 그대로 업스트림에 흘려보내며(업스트림 쓰기 속도에 맞춘 backpressure),
+ * 받은 바이트 수를 누적해 최대 크기를 넘는 순간 전송을 끊고 413 을 돌려준다.
+ * Content-Length 가 이미 최대 크기를 넘으면 본문을 읽지 않고 바로 거절한다.
+ */
+@Slf4j
+@Component
+public class StreamingUploadFilter extends AbstractGatewayFilterFactory<StreamingUploadFilter.Config> {
+
+    private final Counter rejected;
+    private final DistributionSummary uploadedBytes;
+
+    public StreamingUploadFilter(MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.rejected = Counter.builder("gateway.upload.rejected")
+                .register(meterRegistry);
+        // 끝까지 전달된 업로드의 크기 (거절된 업로드는 gateway.upload.rejected 로만 집계)
+        this.uploadedBytes = DistributionSummary.builder("gateway.upload.bytes")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        long maxBytes = config.getMaxSize().toBytes();
+
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            long contentLength = request.getHeaders().getContentLength();
+            if (contentLength > maxBytes) {
+                return reject(exchange, contentLength, maxBytes);
+            }
+
+            AtomicLong received = new AtomicLong();
+            ServerHttpRequest limited = new ServerHttpRequestDecorator(request) {
+                @Override
+                public Flux<DataBuffer> getBody() {
+                    return super.getBody().handle((buffer, sink) -> {
+                        if (received.addAndGet(buffer.readableByteCount()) > maxBytes) {
+                            DataBufferUtils.release(buffer);
+                            sink.error(new UploadTooLargeException());
+                            return;
+                        }
+                        sink.next(buffer);
+                    });
+                }
+            };
+
+            // 413 으로 바뀐 업로드는 기록하지 않도록 거절 처리보다 먼저 성공만 집계
+            return chain.filter(exchange.mutate().request(limited).build())
+                    .doOnSuccess(ignored -> uploadedBytes.record(received.get()))
+                    .onErrorResume(UploadTooLargeException.class, e -> reject(exchange, received.get(), maxBytes));
+        };
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, long size, long maxBytes) {
+        rejected.increment();
+        log.warn("업로드 크기 초과로 요청 차단: path={}, size>={}, max={}",
+                exchange.getRequest().getPath().value(), size, maxBytes);
+
+        ServerHttpResponse response = exchange.getResponse();
+        if (response.isCommitted()) {
+            return Mono.error(new UploadTooLargeException());
+        }
+        response.setStatusCode(HttpStatus.PAYLOAD_TOO_LARGE);
+        // 남은 본문을 더 받지 않도록 연결을 닫는다
+        response.getHeaders().set(HttpHeaders.CONNECTION, "close");
+        return response.setComplete();
+    }
+
+    private static class UploadTooLargeException extends RuntimeException {
+        UploadTooLargeException() {
+            super("업로드 최대 크기를 초과했습니다.", null, false, false);
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+        // lecture-service 의 spring.servlet.multipart.max-request-size 와 맞춘다
+        private DataSize maxSize = DataSize.ofMegabytes(250);
+    }
+}
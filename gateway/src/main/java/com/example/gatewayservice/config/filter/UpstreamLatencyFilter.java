@@ -0,0 +1,40 @@
+package com.example.gatewayservice.config.filter;
+
+import com.example.gatewayservice.config.metrics.GatewayMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyRoutingFilter;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 업스트림 호출(응답 헤더 수신까지) 시간을 라우트별로 기록하고, 접근 로그에서 쓰도록 exchange 속성에 남긴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UpstreamLatencyFilter implements GlobalFilter, Ordered {
+
+    // 업스트림 호출 시간 (나노초). 업스트림을 호출하지 않은 요청(캐시 적중, 거절 등)에는 없다
+    public static final String UPSTREAM_NANOS_ATTR = UpstreamLatencyFilter.class.getName() + ".nanos";
+
+    private final GatewayMetrics gatewayMetrics;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+                // doFinally 는 바깥 필터의 doFinally 보다 늦게 실행되므로 속성은 종료 신호를 전달하기 전에 남긴다
+                .doOnTerminate(() -> exchange.getAttributes().put(UPSTREAM_NANOS_ATTR, System.nanoTime() - start))
+                .doFinally(signal -> gatewayMetrics.recordStage(
+                        GatewayMetrics.routeId(exchange), GatewayMetrics.STAGE_UPSTREAM, System.nanoTime() - start));
+    }
+
+    // 라우팅 필터 직전에 실행
+    @Override
+    public int getOrder() {
+        return NettyRoutingFilter.ORDER - 1;
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.gatewayservice.config.filter;
+
+import com.example.gatewayservice.config.loadbalancer.InstanceLoadTracker;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 영상 스트리밍 전용 라우트 필터.
+ * 본문은 Netty 버퍼 그대로 흘려보내고(집계·복사 없음) 첫 바이트까지의 시간과 전송 속도만 기록한다.
+ * Range / Content-Range 헤더는 그대로 전달된다.
+ * 본문 전송이 끝나면 로드밸런서가 고른 인스턴스의 부하를 돌려준다 (lb://lecture-video).
+ * 본문을 받으려면 NettyWriteResponseFilter 보다 앞 순서에서 응답을 감싸야 한다.
+ */
+@Component
+public class VideoStreamFilter extends AbstractGatewayFilterFactory<Object> {
+
+    private final Timer timeToFirstByte;
+    private final DistributionSummary throughput;
+    private final DistributionSummary streamedBytes;
+    private final InstanceLoadTracker loadTracker;
+
+    public VideoStreamFilter(MeterRegistry meterRegistry, InstanceLoadTracker loadTracker) {
+        super(Object.class);
+        this.loadTracker = loadTracker;
+        this.timeToFirstByte = Timer.builder("gateway.video.time-to-first-byte")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.throughput = DistributionSummary.builder("gateway.video.throughput")
+                .baseUnit("bytes/second")
+                .register(meterRegistry);
+        this.streamedBytes = DistributionSummary.builder("gateway.video.bytes")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public GatewayFilter apply(Object config) {
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            long start = System.nanoTime();
+            ServerHttpResponse measuring = measuringResponse(exchange.getResponse(), start);
+            // 이 순서에서는 체인이 끝날 때 본문 전송도 끝나 있다
+            return chain.filter(exchange.mutate().response(measuring).build())
+                    .doFinally(signal -> loadTracker.release(exchange));
+        }, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1);
+    }
+
+    private ServerHttpResponse measuringResponse(ServerHttpResponse delegate, long start) {
+        AtomicLong firstByteAt = new AtomicLong();
+        AtomicLong bytes = new AtomicLong();
+
+        return new ServerHttpResponseDecorator(delegate) {
+            @Override
+            public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                return super.writeWith(Flux.from(body).doOnNext(buffer -> {
+                    if (firstByteAt.compareAndSet(0, System.nanoTime())) {
+                        timeToFirstByte.record(firstByteAt.get() - start, TimeUnit.NANOSECONDS);
+                    }
+                    bytes.addAndGet(buffer.readableByteCount());
+                })).doFinally(signal -> {
+                    long elapsedNanos = System.nanoTime() - start;
+                    streamedBytes.record(bytes.get());
+                    if (elapsedNanos > 0 && bytes.get() > 0) {
+                        throughput.record(bytes.get() * 1_000_000_000.0 / elapsedNanos);
+                    }
+                });
+            }
+        };
+    }
+}
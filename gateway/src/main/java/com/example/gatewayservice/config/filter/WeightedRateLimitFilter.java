@@ -0,0 +1,127 @@
+package com.example.gatewayservice.config.filter;
+
+import com.example.gatewayservice.config.metrics.GatewayMetrics;
+import com.example.gatewayservice.config.redis.SmartKeyResolver;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청 비용(메서드, 요청 크기)을 반영하는 sliding window rate limiter.
+ * 조회는 싸게, 대용량 업로드·AI 호출은 비싸게 과금해 같은 한도 안에서 무거운 요청이 백엔드를 독점하지 못하게 한다.
+ */
+@Slf4j
+@Component
+public class WeightedRateLimitFilter extends AbstractGatewayFilterFactory<WeightedRateLimitFilter.Config> {
+
+    private static final String KEY_PREFIX = "weighted_rate_limiter.";
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final RedisScript<List<Long>> script;
+    private final SmartKeyResolver keyResolver;
+    private final GatewayMetrics gatewayMetrics;
+
+    public WeightedRateLimitFilter(ReactiveStringRedisTemplate redisTemplate,
+                                   @Qualifier("slidingWindowRateLimiterScript") RedisScript<List<Long>> script,
+                                   SmartKeyResolver keyResolver,
+                                   GatewayMetrics gatewayMetrics) {
+        super(Config.class);
+        this.redisTemplate = redisTemplate;
+        this.script = script;
+        this.keyResolver = keyResolver;
+        this.gatewayMetrics = gatewayMetrics;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, nextChain) -> {
+            GatewayFilterChain chain = gatewayMetrics.timed(exchange, GatewayMetrics.STAGE_WEIGHTED_RATE_LIMITER, nextChain);
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            String routeId = route != null ? route.getId() : "default";
+            long cost = cost(exchange.getRequest(), config);
+
+            return keyResolver.resolve(exchange)
+                    .flatMap(key -> consume(routeId + "." + key, cost, config))
+                    .flatMap(remaining -> {
+                        exchange.getResponse().getHeaders().add("X-RateLimit-Cost", String.valueOf(cost));
+                        exchange.getResponse().getHeaders().add("X-RateLimit-Remaining", String.valueOf(Math.max(remaining, 0)));
+
+                        if (remaining < 0) {
+                            log.warn("가중치 rate limit 초과: route={}, cost={}", routeId, cost);
+                            exchange.getResponse().setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+                            return exchange.getResponse().setComplete();
+                        }
+                        return chain.filter(exchange);
+                    });
+        };
+    }
+
+    /**
+     * @return 허용 시 남은 비용, 거절 시 음수
+     */
+    private Mono<Long> consume(String key, long cost, Config config) {
+        // 윈도우 계산은 Redis 시계 기준으로 스크립트 안에서 수행
+        List<String> keys = List.of(KEY_PREFIX + "{" + key + "}");
+        List<String> args = List.of(
+                String.valueOf(config.getLimit()),
+                String.valueOf(config.getWindow().toMillis()),
+                String.valueOf(cost));
+
+        return redisTemplate.execute(script, keys, args)
+                .reduce(new ArrayList<Long>(), (longs, l) -> {
+                    longs.addAll(l);
+                    return longs;
+                })
+                .map(results -> results.get(0) == 1L ? results.get(1) : -1L)
+                .onErrorResume(e -> {
+                    // Redis 장애 시에는 통과 (RedisRateLimiter 와 동일한 정책)
+                    log.error("가중치 rate limit 확인 실패", e);
+                    return Mono.just(0L);
+                });
+    }
+
+    private long cost(ServerHttpRequest request, Config config) {
+        long cost = config.getDefaultCost();
+        for (Map.Entry<String, Long> entry : config.getMethodCosts().entrySet()) {
+            // 설정 바인딩 시 키 대소문자가 바뀔 수 있어 대소문자 무시 비교
+            if (entry.getKey().equalsIgnoreCase(request.getMethod().name())) {
+                cost = entry.getValue();
+                break;
+            }
+        }
+        long contentLength = request.getHeaders().getContentLength();
+        if (config.getBytesPerCost() > 0 && contentLength > 0) {
+            cost += (contentLength + config.getBytesPerCost() - 1) / config.getBytesPerCost();
+        }
+        return cost;
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+        private long limit = 100;
+        private Duration window = Duration.ofSeconds(10);
+        private long defaultCost = 1;
+        private Map<String, Long> methodCosts = new HashMap<>();
+        // 요청 본문 이 크기마다 비용 1 추가 (0 이면 크기 미반영)
+        private long bytesPerCost = 0;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.gatewayservice.config.hedge;
+
+/**
+ * 추가 요청(hedge) 예산. 요청마다 ratio 만큼 적립하고 hedge 한 번에 1 을 쓴다.
+ * 장기적으로 hedge 비율이 ratio 를 넘지 않는다.
+ */
+public class HedgeBudget {
+
+    private final double ratio;
+    private final double maxTokens;
+    private double tokens;
+
+    public HedgeBudget(double ratio, double maxTokens) {
+        this.ratio = ratio;
+        this.maxTokens = maxTokens;
+    }
+
+    public synchronized void deposit() {
+        tokens = Math.min(maxTokens, tokens + ratio);
+    }
+
+    public synchronized boolean tryWithdraw() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.gatewayservice.config.hedge;
+
+import java.util.Arrays;
+
+/**
+ * 최근 응답 시간 샘플로 분위수(예: p95)를 추정한다.
+ * 매 요청마다 정렬하지 않도록 일정 샘플마다 한 번씩만 다시 계산한다.
+ */
+public class LatencyTracker {
+
+    private static final int RECOMPUTE_INTERVAL = 100;
+
+    private final long[] samples;
+    private final double quantile;
+    private int next;
+    private int count;
+    private int sinceRecompute;
+
+    private volatile long quantileNanos;
+
+    public LatencyTracker(int windowSize, double quantile, long initialNanos) {
+        this.samples = new long[windowSize];
+        this.quantile = quantile;
+        this.quantileNanos = initialNanos;
+    }
+
+    public synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        count = Math.min(count + 1, samples.length);
+
+        if (++sinceRecompute >= RECOMPUTE_INTERVAL) {
+            sinceRecompute = 0;
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            quantileNanos = sorted[(int) Math.min(count - 1, Math.floor(count * quantile))];
+        }
+    }
+
+    public long getQuantileNanos() {
+        return quantileNanos;
+    }
+}
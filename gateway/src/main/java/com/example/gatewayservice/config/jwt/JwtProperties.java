@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Getter
 @Setter
 @Component
@@ -12,4 +14,9 @@ import org.springframework.stereotype.Component;
 public class JwtProperties {
     private String issuer;
     private String secretKey;
+
+    // 검증 결과 캐시 (유효 토큰은 exp 이전까지만 보관)
+    private int verifiedCacheSize = 10_000;
+    private Duration verifiedCacheTtl = Duration.ofMinutes(5);
+    private Duration rejectedCacheTtl = Duration.ofSeconds(10);
 }
@@ -1,52 +1,161 @@
 package com.example.gatewayservice.config.jwt;
 
 import com.example.gatewayservice.dto.ClaimsResponseDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ServerWebExchange;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
 
 @Service
-@RequiredArgsConstructor
 public class TokenProvider {
 
+    // 한 요청 안에서 검증 결과를 공유하기 위한 exchange attribute 키
+    public static final String VERIFIED_CLAIMS_ATTR = TokenProvider.class.getName() + ".verifiedClaims";
+
+    public static final int VALID = 1;
+    public static final int EXPIRED = 2;
+    public static final int INVALID = 3;
+
     private final JwtProperties jwtProperties;
+    private final Ticker ticker;
+
+    private JwtParser jwtParser;
+
+    // 토큰 SHA-256 → 검증 결과 (항목마다 만료 시각이 다름). 토큰 원문은 힙에 남기지 않는다
+    private Cache<String, CachedClaims> verifiedCache;
+
+    @Autowired
+    public TokenProvider(JwtProperties jwtProperties) {
+        this(jwtProperties, Ticker.systemTicker());
+    }
+
+    TokenProvider(JwtProperties jwtProperties, Ticker ticker) {
+        this.jwtProperties = jwtProperties;
+        this.ticker = ticker;
+    }
+
+    @PostConstruct
+    void init() {
+        // 시크릿 디코딩과 파서 생성은 기동 시 한 번만
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(getSecretKey())
+                .build();
+
+        this.verifiedCache = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getVerifiedCacheSize())
+                .ticker(ticker)
+                .expireAfter(new Expiry<String, CachedClaims>() {
+                    @Override
+                    public long expireAfterCreate(String digest, CachedClaims cached, long currentTime) {
+                        return Math.max(0, cached.expiresAt() - currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String digest, CachedClaims cached, long currentTime, long currentDuration) {
+                        return expireAfterCreate(digest, cached, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String digest, CachedClaims cached, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
 
-    public int validateToken(String token) {
+    /**
+     * 요청당 한 번만 토큰을 검증하고, 결과를 exchange attribute 에 저장해 이후 필터에서 재사용한다.
+     */
+    public ClaimsResponseDTO verify(ServerWebExchange exchange, String token) {
+        ClaimsResponseDTO claims = exchange.getAttribute(VERIFIED_CLAIMS_ATTR);
+        if (claims == null) {
+            claims = verify(token);
+            exchange.getAttributes().put(VERIFIED_CLAIMS_ATTR, claims);
+        }
+        return claims;
+    }
+
+    /**
+     * 같은 토큰의 반복 검증을 피하기 위해 토큰 SHA-256 기준으로 결과를 캐시한다.
+     * 유효 토큰은 exp 를 넘겨 보관하지 않고, 만료/위조 토큰은 짧게 보관해 서명 검증 없이 거절한다.
+     */
+    public ClaimsResponseDTO verify(String token) {
+        String digest = digest(token);
+        CachedClaims cached = verifiedCache.getIfPresent(digest);
+        if (cached != null) {
+            return cached.claims();
+        }
+
+        ClaimsResponseDTO claims = parse(token);
+        verifiedCache.put(digest, new CachedClaims(claims, ticker.read() + lifetimeNanos(claims)));
+        return claims;
+    }
+
+    private ClaimsResponseDTO parse(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(getSecretKey()).build().parseClaimsJws(token);
-            return 1;
+            return toResponse(jwtParser.parseClaimsJws(token).getBody());
         } catch (ExpiredJwtException e) {
-            return 2;
+            return ClaimsResponseDTO.builder().status(EXPIRED).build();
         } catch (Exception e) {
-            return 3;
+            return ClaimsResponseDTO.builder().status(INVALID).build();
         }
     }
 
-    public ClaimsResponseDTO getAuthentication(String token) {
-        Claims claims = getClaims(token);
+    private ClaimsResponseDTO toResponse(Claims claims) {
         return ClaimsResponseDTO.builder()
+                .status(VALID)
                 .id(Long.valueOf(claims.getSubject()))
                 .nickname(claims.get("nickname", String.class))
                 .profileImage(claims.get("profileImage", String.class))
+                .expiration(claims.getExpiration())
                 .build();
     }
 
-    private Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSecretKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    // exp 는 벽시계 기준이므로 남은 시간만 계산하고, 만료 시각은 캐시 ticker 기준으로 잡는다
+    private long lifetimeNanos(ClaimsResponseDTO claims) {
+        if (claims.getStatus() != VALID) {
+            return jwtProperties.getRejectedCacheTtl().toNanos();
+        }
+        long ttl = jwtProperties.getVerifiedCacheTtl().toNanos();
+        if (claims.getExpiration() == null) {
+            return ttl;
+        }
+        long untilExp = TimeUnit.MILLISECONDS.toNanos(claims.getExpiration().getTime() - System.currentTimeMillis());
+        return Math.max(0, Math.min(ttl, untilExp));
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
     }
 
     private SecretKey getSecretKey() {
         byte[] keyBytes = Base64.getDecoder().decode(jwtProperties.getSecretKey());
         return Keys.hmacShaKeyFor(keyBytes);
     }
+
+    // expiresAt 은 캐시 ticker 기준 나노초
+    private record CachedClaims(ClaimsResponseDTO claims, long expiresAt) {
+    }
 }
@@ -0,0 +1,177 @@
+package com.example.gatewayservice.config.loadbalancer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * 경로 변수(lectureId) 기반 consistent hashing 로드밸런서 (bounded load).
+ * <p>
+ * 같은 강의 요청은 항상 같은 인스턴스로 보내 인스턴스 로컬 캐시 적중률을 높인다.
+ * 인스턴스마다 가상 노드를 링에 올려 두므로 인스턴스가 추가·제거되어도 해당 구간의 키만 옮겨진다.
+ * 인기 강의가 한 인스턴스에 몰려 부하가 평균 * load-factor 를 넘으면 링의 다음 인스턴스로 넘긴다.
+ * 키를 뽑을 수 없는 요청은 round robin 으로 보낸다.
+ */
+@Slf4j
+public class ConsistentHashLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+    private final String serviceId;
+    private final ObjectProvider<ServiceInstanceListSupplier> supplierProvider;
+    private final InstanceLoadTracker loadTracker;
+    private final VideoLoadBalancerProperties properties;
+    private final PathPattern keyPattern;
+    private final Counter spilled;
+
+    private final AtomicInteger position = new AtomicInteger();
+    private volatile Ring ring = new Ring(Set.of(), new TreeMap<>());
+
+    public ConsistentHashLoadBalancer(String serviceId,
+                                      ObjectProvider<ServiceInstanceListSupplier> supplierProvider,
+                                      InstanceLoadTracker loadTracker,
+                                      VideoLoadBalancerProperties properties,
+                                      MeterRegistry meterRegistry) {
+        this.serviceId = serviceId;
+        this.supplierProvider = supplierProvider;
+        this.loadTracker = loadTracker;
+        this.properties = properties;
+        this.keyPattern = new PathPatternParser().parse(properties.getKeyPattern());
+        this.spilled = Counter.builder("gateway.loadbalancer.spilled")
+                .description("부하 한도 때문에 링의 다음 인스턴스로 넘긴 요청 수")
+                .tag("service", serviceId)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = supplierProvider.getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return supplier.get(request)
+                .next()
+                .map(instances -> select(instances, hashKey(request)));
+    }
+
+    private Response<ServiceInstance> select(List<ServiceInstance> instances, String key) {
+        if (instances.isEmpty()) {
+            log.warn("사용 가능한 인스턴스가 없습니다: service={}", serviceId);
+            return new EmptyResponse();
+        }
+
+        ServiceInstance chosen = key != null
+                ? selectBounded(ring(instances), instances, key)
+                : instances.get(Math.floorMod(position.getAndIncrement(), instances.size()));
+        loadTracker.acquire(chosen);
+        return new DefaultResponse(chosen);
+    }
+
+    private ServiceInstance selectBounded(Ring ring, List<ServiceInstance> instances, String key) {
+        int totalLoad = 0;
+        for (ServiceInstance instance : instances) {
+            totalLoad += loadTracker.load(instance);
+        }
+        int capacity = (int) Math.ceil(properties.getLoadFactor() * (totalLoad + 1) / instances.size());
+
+        long hash = hash(key);
+        Set<String> visited = new HashSet<>();
+        ServiceInstance primary = null;
+        for (ServiceInstance candidate : ring.walkFrom(hash)) {
+            if (!visited.add(InstanceLoadTracker.key(candidate))) {
+                continue;
+            }
+            if (primary == null) {
+                primary = candidate;
+            }
+            if (loadTracker.load(candidate) < capacity) {
+                if (candidate != primary) {
+                    spilled.increment();
+                }
+                return candidate;
+            }
+            if (visited.size() == ring.members().size()) {
+                break;
+            }
+        }
+        return primary;
+    }
+
+    private Ring ring(List<ServiceInstance> instances) {
+        Set<String> members = new HashSet<>();
+        for (ServiceInstance instance : instances) {
+            members.add(InstanceLoadTracker.key(instance));
+        }
+
+        Ring current = ring;
+        if (current.members().equals(members)) {
+            return current;
+        }
+
+        NavigableMap<Long, ServiceInstance> points = new TreeMap<>();
+        for (ServiceInstance instance : instances) {
+            String member = InstanceLoadTracker.key(instance);
+            for (int i = 0; i < properties.getVirtualNodes(); i++) {
+                points.put(hash(member + "#" + i), instance);
+            }
+        }
+        log.info("consistent hash 링 갱신: service={}, instances={}", serviceId, members);
+        Ring rebuilt = new Ring(members, points);
+        ring = rebuilt;
+        return rebuilt;
+    }
+
+    private String hashKey(Request request) {
+        if (!(request.getContext() instanceof RequestDataContext context) || context.getClientRequest() == null) {
+            return null;
+        }
+        String path = context.getClientRequest().getUrl().getRawPath();
+        PathPattern.PathMatchInfo matchInfo = keyPattern.matchAndExtract(PathContainer.parsePath(path));
+        return matchInfo != null ? matchInfo.getUriVariables().get(properties.getKeyVariable()) : null;
+    }
+
+    // FNV-1a 후 murmur3 finalizer 로 비트를 섞는다
+    static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private record Ring(Set<String> members, NavigableMap<Long, ServiceInstance> points) {
+
+        /**
+         * hash 위치부터 시계 방향으로 한 바퀴 도는 순서의 인스턴스 (가상 노드 단위)
+         */
+        Iterable<ServiceInstance> walkFrom(long hash) {
+            return () -> Stream.concat(
+                    points.tailMap(hash, true).values().stream(),
+                    points.headMap(hash, false).values().stream()).iterator();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.gatewayservice.config.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로드밸런서가 고른 인스턴스별 진행 중인 요청 수.
+ * 영상처럼 응답 본문을 오래 흘려보내는 요청은 본문 전송이 끝날 때 release 해야 실제 부하가 반영된다.
+ */
+@Component
+public class InstanceLoadTracker {
+
+    private static final String RELEASED_ATTR = InstanceLoadTracker.class.getName() + ".released";
+
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+    public static String key(ServiceInstance instance) {
+        return instance.getHost() + ":" + instance.getPort();
+    }
+
+    public void acquire(ServiceInstance instance) {
+        inFlight.computeIfAbsent(key(instance), key -> new AtomicInteger()).incrementAndGet();
+    }
+
+    /**
+     * 이 요청에 고른 인스턴스의 부하를 돌려준다. 같은 요청에서 여러 번 불려도 한 번만 반영된다.
+     */
+    public void release(ServerWebExchange exchange) {
+        Response<ServiceInstance> response = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+        if (response == null || !response.hasServer()
+                || exchange.getAttributes().putIfAbsent(RELEASED_ATTR, Boolean.TRUE) != null) {
+            return;
+        }
+        AtomicInteger count = inFlight.get(key(response.getServer()));
+        if (count != null) {
+            count.updateAndGet(current -> Math.max(0, current - 1));
+        }
+    }
+
+    public int load(ServiceInstance instance) {
+        AtomicInteger count = inFlight.get(key(instance));
+        return count != null ? count.get() : 0;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.gatewayservice.config.loadbalancer;
+
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClient;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * lb://lecture-video 라우트(영상 스트리밍)는 lectureId 기준 consistent hashing 으로 인스턴스를 고른다.
+ * 인스턴스 목록은 spring.cloud.discovery.client.simple.instances.lecture-video 에서 읽는다.
+ */
+@Configuration
+@LoadBalancerClient(name = "lecture-video", configuration = VideoLoadBalancerConfig.class)
+public class LoadBalancerConfig {
+}
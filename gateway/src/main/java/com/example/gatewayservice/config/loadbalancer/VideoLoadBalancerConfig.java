@@ -0,0 +1,28 @@
+package com.example.gatewayservice.config.loadbalancer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * lecture-video 로드밸런서 클라이언트 전용 설정.
+ * 모든 클라이언트에 적용되지 않도록 @Configuration 을 붙이지 않고 {@link LoadBalancerConfig} 에서만 참조한다.
+ */
+public class VideoLoadBalancerConfig {
+
+    @Bean
+    public ReactorLoadBalancer<ServiceInstance> consistentHashLoadBalancer(Environment environment,
+                                                                           LoadBalancerClientFactory clientFactory,
+                                                                           InstanceLoadTracker loadTracker,
+                                                                           VideoLoadBalancerProperties properties,
+                                                                           MeterRegistry meterRegistry) {
+        String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        return new ConsistentHashLoadBalancer(serviceId,
+                clientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class),
+                loadTracker, properties, meterRegistry);
+    }
+}
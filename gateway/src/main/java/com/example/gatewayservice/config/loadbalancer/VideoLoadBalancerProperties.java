@@ -0,0 +1,20 @@
+package com.example.gatewayservice.config.loadbalancer;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "gateway.video-lb")
+@Getter
+@Setter
+public class VideoLoadBalancerProperties {
+    // 해시 키를 뽑을 경로와 변수 이름
+    private String keyPattern = "/lectures/video/{lectureId}/stream";
+    private String keyVariable = "lectureId";
+    // 인스턴스당 링 위의 가상 노드 수 (많을수록 키가 고르게 분산)
+    private int virtualNodes = 160;
+    // 인스턴스당 허용 부하 = 평균 부하 * load-factor. 넘으면 링의 다음 인스턴스로 넘긴다
+    private double loadFactor = 1.25;
+}
@@ -0,0 +1,20 @@
+package com.example.gatewayservice.config.log;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "gateway.access-log")
+@Getter
+@Setter
+public class AccessLogProperties {
+    // 정상 응답 중 기록할 비율 (에러·느린 요청은 항상 기록)
+    private double successSampleRate = 0.1;
+    private Duration slowThreshold = Duration.ofSeconds(1);
+    // 버퍼가 가득 차면 새 로그는 버린다
+    private int bufferSize = 8192;
+}
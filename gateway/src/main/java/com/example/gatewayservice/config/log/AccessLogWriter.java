@@ -0,0 +1,110 @@
+package com.example.gatewayservice.config.log;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 접근 로그를 이벤트 루프 밖에서 기록하는 비동기 writer.
+ * 요청 스레드는 락 없는 큐에 넣기만 하고(bufferSize 를 넘으면 버림), 전용 스레드가 꺼내어 로거에 쓴다.
+ * 큐가 비면 writer 스레드는 park 하고, 빈 큐에 처음 넣은 요청 스레드가 깨운다.
+ */
+@Component
+public class AccessLogWriter {
+
+    private static final Logger accessLog = LoggerFactory.getLogger("ACCESS_LOG");
+    private static final Logger log = LoggerFactory.getLogger(AccessLogWriter.class);
+
+    // 깨우기 신호를 놓쳐도 이 간격마다 큐를 다시 확인한다
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final Queue<AccessLogEntry> queue = new ConcurrentLinkedQueue<>();
+    // ConcurrentLinkedQueue.size() 는 O(n) 이라 크기를 따로 센다
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+    private final int capacity;
+
+    private volatile boolean running = true;
+    private volatile Thread worker;
+
+    public AccessLogWriter(AccessLogProperties properties, MeterRegistry meterRegistry) {
+        this.capacity = properties.getBufferSize();
+        FunctionCounter.builder("gateway.access-log.dropped", dropped, AtomicLong::get)
+                .description("버퍼가 가득 차 버려진 접근 로그 수")
+                .register(meterRegistry);
+        Gauge.builder("gateway.access-log.queue", pending, AtomicInteger::get)
+                .description("기록 대기 중인 접근 로그 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        worker = Thread.ofPlatform()
+                .name("access-log-writer")
+                .daemon(true)
+                .start(this::drain);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(worker);
+        worker.join(TimeUnit.SECONDS.toMillis(1));
+    }
+
+    public void write(AccessLogEntry entry) {
+        int size = pending.incrementAndGet();
+        if (size > capacity) {
+            pending.decrementAndGet();
+            dropped.incrementAndGet();
+            return;
+        }
+        queue.offer(entry);
+        if (size == 1) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    private void drain() {
+        while (running) {
+            AccessLogEntry entry = queue.poll();
+            if (entry == null) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                continue;
+            }
+            pending.decrementAndGet();
+            append(entry);
+        }
+        // 종료 시 남은 로그를 기록
+        AccessLogEntry entry;
+        while ((entry = queue.poll()) != null) {
+            append(entry);
+        }
+    }
+
+    private void append(AccessLogEntry entry) {
+        try {
+            accessLog.info("{} {} route={} status={} latency={}ms upstream={}ms bytes={}",
+                    entry.method(), entry.path(), entry.routeId(), entry.status(), entry.latencyMillis(),
+                    entry.upstreamMillis(), entry.bytes());
+        } catch (Exception e) {
+            log.warn("접근 로그 기록 실패", e);
+        }
+    }
+
+    public record AccessLogEntry(String method, String path, String routeId, int status, long latencyMillis,
+                                 long upstreamMillis, long bytes) {
+    }
+}
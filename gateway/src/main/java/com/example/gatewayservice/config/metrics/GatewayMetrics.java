@@ -0,0 +1,85 @@
+package com.example.gatewayservice.config.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 라우트·필터 단계별 지연 시간과 JWT 처리 결과 메트릭.
+ * 전체 요청 지연은 Spring Cloud Gateway 기본 메트릭(spring.cloud.gateway.requests)을 사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GatewayMetrics {
+
+    public static final String STAGE_AUTH = "auth";
+    public static final String STAGE_RATE_LIMITER = "rate-limiter";
+    public static final String STAGE_WEIGHTED_RATE_LIMITER = "weighted-rate-limiter";
+    public static final String STAGE_UPSTREAM = "upstream";
+
+    public static final String JWT_VALID = "valid";
+    public static final String JWT_EXPIRED_REFRESHED = "expired-refreshed";
+    public static final String JWT_REJECTED = "rejected";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Timer> stageTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> jwtCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> coalescingCounters = new ConcurrentHashMap<>();
+
+    public void recordStage(String routeId, String stage, long elapsedNanos) {
+        stageTimers.computeIfAbsent(routeId + "|" + stage, key -> Timer.builder("gateway.filter.latency")
+                        .description("게이트웨이 필터 단계별 처리 시간")
+                        .tag("route", routeId)
+                        .tag("stage", stage)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 이 필터에서 다음 필터로 넘어가기까지 걸린 시간을 stage 로 기록하는 chain 을 돌려준다.
+     */
+    public GatewayFilterChain timed(ServerWebExchange exchange, String stage, GatewayFilterChain chain) {
+        long start = System.nanoTime();
+        return mutated -> {
+            recordStage(routeId(exchange), stage, System.nanoTime() - start);
+            return chain.filter(mutated);
+        };
+    }
+
+    public void jwtOutcome(String outcome) {
+        jwtCounters.computeIfAbsent(outcome, key -> Counter.builder("gateway.jwt.outcomes")
+                        .description("JWT 검증 결과")
+                        .tag("outcome", outcome)
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    /**
+     * @param result leader(업스트림 호출) 또는 collapsed(진행 중 요청에 합류)
+     */
+    public void coalescing(String routeId, String result) {
+        coalescingCounters.computeIfAbsent(routeId + "|" + result, key -> Counter.builder("gateway.coalescing.requests")
+                        .description("동일 GET 요청 병합 결과")
+                        .tag("route", routeId)
+                        .tag("result", result)
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    public static String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : "unknown";
+    }
+}
@@ -0,0 +1,218 @@
+package com.example.gatewayservice.config.redis;
+
+import com.example.gatewayservice.config.metrics.GatewayMetrics;
+import lombok.extern.slf4j.Slf4j;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cloud.gateway.filter.ratelimit.AbstractRateLimiter;
+import org.springframework.cloud.gateway.filter.ratelimit.RedisRateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로컬 토큰 버킷 + Redis 토큰 버킷 2단 rate limiter.
+ * <p>
+ * 노드는 RedisRateLimiter 와 같은 Lua 스크립트로 Redis 버킷에서 토큰을 배치 단위로 임대해 두고,
+ * 대부분의 요청은 로컬에서 처리한다. 배치는 leaseTtl 동안 채워지는 토큰 중 노드 몫
+ * (replenishRate × leaseTtl / nodeCount, burstCapacity / nodeCount 이하, 최소 2)이다.
+ * <p>
+ * 오차 범위 (replenishRate R, burstCapacity B, 노드 수 N, 배치 b, prefetchThreshold p, 구간 길이 T):
+ * <ul>
+ *     <li>과허용 없음: 로컬 토큰은 모두 Redis 가 허락한 것이므로 전체 허용 수는 B + R × T 를 넘지 않는다.</li>
+ *     <li>과소허용: 한 노드가 쥐고 있는 토큰은 최대 b + p 개이고, 임대 후 leaseTtl 안에 다 쓰지 못한 토큰은 버려진다.
+ *     버려지는 것은 로컬 수요가 노드 몫(R / N)보다 적은 노드뿐이므로, 그런 노드 수를 M 이라 하면
+ *     수요가 한도를 넘는 동안 전체 허용 수는 B + R × T - (N + M × ⌈T / leaseTtl⌉) × (b + p) 이상이다.</li>
+ * </ul>
+ * Redis 장애 시에는 RedisRateLimiter 와 같이 통과시키므로 위 범위에서 제외된다.
+ * <p>
+ * 라우트 설정은 기존 redis-rate-limiter.* 인자를 그대로 사용한다.
+ */
+@Slf4j
+@Primary
+@Component("hybridRateLimiter")
+public class HybridRateLimiter extends AbstractRateLimiter<RedisRateLimiter.Config> {
+
+    private static final String CONFIGURATION_PROPERTY_NAME = "redis-rate-limiter";
+    private static final String KEY_PREFIX = "hybrid_rate_limiter.";
+    // 배치가 1 이면 매 요청이 Redis 를 조회하므로 최소 2 개씩 임대한다
+    private static final int MIN_BATCH = 2;
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final RedisScript<List<Long>> script;
+    private final HybridRateLimiterProperties properties;
+    private final GatewayMetrics gatewayMetrics;
+    private final Ticker ticker;
+
+    // 마지막 접근 후 leaseTtl 이 지난 버킷에는 유효한 토큰이 없으므로 버려도 된다
+    private final Cache<String, LocalBucket> buckets;
+
+    @Autowired
+    public HybridRateLimiter(ReactiveStringRedisTemplate redisTemplate,
+                             @Qualifier(RedisRateLimiter.REDIS_SCRIPT_NAME) RedisScript<List<Long>> script,
+                             ConfigurationService configurationService,
+                             HybridRateLimiterProperties properties,
+                             GatewayMetrics gatewayMetrics) {
+        this(redisTemplate, script, configurationService, properties, gatewayMetrics, Ticker.systemTicker());
+    }
+
+    HybridRateLimiter(ReactiveStringRedisTemplate redisTemplate,
+                      RedisScript<List<Long>> script,
+                      ConfigurationService configurationService,
+                      HybridRateLimiterProperties properties,
+                      GatewayMetrics gatewayMetrics,
+                      Ticker ticker) {
+        super(RedisRateLimiter.Config.class, CONFIGURATION_PROPERTY_NAME, configurationService);
+        this.redisTemplate = redisTemplate;
+        this.script = script;
+        this.properties = properties;
+        this.gatewayMetrics = gatewayMetrics;
+        this.ticker = ticker;
+        this.buckets = Caffeine.newBuilder()
+                .ticker(ticker)
+                .maximumSize(properties.getMaxKeys())
+                .expireAfterAccess(properties.getLeaseTtl())
+                .build();
+    }
+
+    @Override
+    public Mono<Response> isAllowed(String routeId, String id) {
+        RedisRateLimiter.Config config = loadConfiguration(routeId);
+        String key = routeId + "." + id;
+        int requested = config.getRequestedTokens();
+        LocalBucket bucket = bucket(key);
+
+        long now = ticker.read();
+        if (bucket.tryAcquire(requested, now)) {
+            if (bucket.remaining(now) <= properties.getPrefetchThreshold() && batchSize(config) > requested) {
+                prefetch(key, config, bucket);
+            }
+            gatewayMetrics.recordStage(routeId, GatewayMetrics.STAGE_RATE_LIMITER, ticker.read() - now);
+            return Mono.just(response(true, config, bucket.remaining(now)));
+        }
+
+        // 로컬 토큰 소진 → 배치 임대를 동기로 시도하고, 배치가 거절되면 요청 분량만 다시 시도
+        int batch = batchSize(config);
+        return lease(key, config, batch)
+                .flatMap(granted -> granted || batch == requested
+                        ? Mono.just(granted ? batch : 0)
+                        : lease(key, config, requested).map(single -> single ? requested : 0))
+                .map(tokens -> {
+                    if (tokens == 0) {
+                        return response(false, config, 0);
+                    }
+                    long leasedAt = ticker.read();
+                    bucket.add(tokens - requested, leasedAt, properties.getLeaseTtl().toNanos());
+                    return response(true, config, bucket.remaining(leasedAt));
+                })
+                .onErrorResume(e -> {
+                    // RedisRateLimiter 와 동일하게 Redis 장애 시에는 통과시킨다
+                    log.error("Error determining if user allowed from redis", e);
+                    return Mono.just(response(true, config, -1));
+                })
+                .doFinally(signal -> gatewayMetrics.recordStage(
+                        routeId, GatewayMetrics.STAGE_RATE_LIMITER, ticker.read() - now));
+    }
+
+    private void prefetch(String key, RedisRateLimiter.Config config, LocalBucket bucket) {
+        if (!bucket.refilling.compareAndSet(false, true)) {
+            return;
+        }
+        int batch = batchSize(config);
+        lease(key, config, batch)
+                .doFinally(signal -> bucket.refilling.set(false))
+                .subscribe(granted -> {
+                    if (granted) {
+                        bucket.add(batch, ticker.read(), properties.getLeaseTtl().toNanos());
+                    }
+                }, e -> log.warn("rate limit 토큰 선임대 실패: {}", e.getMessage()));
+    }
+
+    private Mono<Boolean> lease(String key, RedisRateLimiter.Config config, int tokens) {
+        // Redis Cluster 에서도 두 키가 같은 슬롯에 오도록 hash tag 사용
+        List<String> keys = List.of(KEY_PREFIX + "{" + key + "}.tokens", KEY_PREFIX + "{" + key + "}.timestamp");
+        List<String> args = List.of(
+                String.valueOf(config.getReplenishRate()),
+                String.valueOf(config.getBurstCapacity()),
+                "",
+                String.valueOf(tokens));
+        return redisTemplate.execute(script, keys, args)
+                .reduce(new ArrayList<Long>(), (longs, l) -> {
+                    longs.addAll(l);
+                    return longs;
+                })
+                .map(results -> results.get(0) == 1L);
+    }
+
+    int batchSize(RedisRateLimiter.Config config) {
+        // leaseTtl 동안 채워지는 토큰의 노드 몫. 한 번에 burstCapacity 의 노드 몫보다 많이 가져가지는 않는다
+        long share = config.getReplenishRate() * properties.getLeaseTtl().toMillis() / 1000 / properties.getNodeCount();
+        long batch = Math.min(share, config.getBurstCapacity() / properties.getNodeCount());
+        return (int) Math.max(Math.max(batch, MIN_BATCH), config.getRequestedTokens());
+    }
+
+    private LocalBucket bucket(String key) {
+        return buckets.get(key, k -> new LocalBucket());
+    }
+
+    private RedisRateLimiter.Config loadConfiguration(String routeId) {
+        RedisRateLimiter.Config config = getConfig().get(routeId);
+        if (config == null) {
+            throw new IllegalArgumentException("No Configuration found for route " + routeId);
+        }
+        return config;
+    }
+
+    private Response response(boolean allowed, RedisRateLimiter.Config config, long remaining) {
+        return new Response(allowed, Map.of(
+                RedisRateLimiter.REMAINING_HEADER, String.valueOf(remaining),
+                RedisRateLimiter.REPLENISH_RATE_HEADER, String.valueOf(config.getReplenishRate()),
+                RedisRateLimiter.BURST_CAPACITY_HEADER, String.valueOf(config.getBurstCapacity()),
+                RedisRateLimiter.REQUESTED_TOKENS_HEADER, String.valueOf(config.getRequestedTokens())));
+    }
+
+    static final class LocalBucket {
+        private final AtomicLong tokens = new AtomicLong();
+        private final AtomicBoolean refilling = new AtomicBoolean();
+        private volatile long expiresAtNanos;
+
+        boolean tryAcquire(int requested, long now) {
+            if (now - expiresAtNanos >= 0) {
+                tokens.set(0);
+                return false;
+            }
+            long current;
+            do {
+                current = tokens.get();
+                if (current < requested) {
+                    return false;
+                }
+            } while (!tokens.compareAndSet(current, current - requested));
+            return true;
+        }
+
+        void add(long granted, long now, long ttlNanos) {
+            if (now - expiresAtNanos >= 0) {
+                tokens.set(0);
+            }
+            tokens.addAndGet(granted);
+            expiresAtNanos = now + ttlNanos;
+        }
+
+        long remaining(long now) {
+            return now - expiresAtNanos >= 0 ? 0 : tokens.get();
+        }
+    }
+}
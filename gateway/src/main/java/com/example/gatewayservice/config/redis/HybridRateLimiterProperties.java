@@ -0,0 +1,22 @@
+package com.example.gatewayservice.config.redis;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "gateway.rate-limiter")
+@Getter
+@Setter
+public class HybridRateLimiterProperties {
+    // 게이트웨이 인스턴스 수 (노드 몫 계산용)
+    private int nodeCount = 1;
+    // 임대한 토큰의 유효 시간. 배치 = replenishRate × leaseTtl / nodeCount 이고, 지나면 남은 토큰은 버린다
+    private Duration leaseTtl = Duration.ofSeconds(1);
+    // 남은 토큰이 이 값 이하가 되면 비동기로 다음 배치를 미리 임대
+    private int prefetchThreshold = 1;
+    private int maxKeys = 100_000;
+}
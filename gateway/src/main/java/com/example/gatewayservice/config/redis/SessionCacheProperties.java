@@ -0,0 +1,21 @@
+package com.example.gatewayservice.config.redis;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "gateway.session-cache")
+@Getter
+@Setter
+public class SessionCacheProperties {
+    private boolean enabled = true;
+    private int maxSize = 10_000;
+    private Duration ttl = Duration.ofSeconds(30);
+    // Redis 서버에 keyspace 알림 설정을 직접 적용할지 여부 (false 면 CONFIG GET 으로 확인만 함)
+    private boolean configureKeyspaceEvents = false;
+    private String keyspaceEvents = "Kg$x";
+}
@@ -0,0 +1,181 @@
+package com.example.gatewayservice.config.redis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * accessToken:{userId} 세션 값을 게이트웨이 메모리에 잠시 보관하는 near-cache.
+ * Redis 가 원본이며, keyspace 알림(set/del/expired)을 받으면 해당 사용자 항목을 즉시 무효화한다.
+ * 알림을 받을 수 없는 환경(notify-keyspace-events 미설정, 구독 끊김)에서는 캐시를 쓰지 않고 매번 Redis 를 조회한다.
+ */
+@Slf4j
+@Component
+public class SessionTokenCache {
+
+    private static final String KEY_PREFIX = "accessToken:";
+    private static final String KEYSPACE_PATTERN = "__keyspace@*__:" + KEY_PREFIX + "*";
+    private static final String NOTIFY_KEYSPACE_EVENTS = "notify-keyspace-events";
+    // notify-keyspace-events 의 'A' 가 포함하는 이벤트 종류
+    private static final String ALL_EVENT_CLASSES = "g$lshzxetd";
+
+    private final ReactiveStringRedisTemplate reactiveRedisTemplate;
+    private final ReactiveRedisMessageListenerContainer listenerContainer;
+    private final SessionCacheProperties properties;
+
+    // 사용자별 세대(generation)를 항목에 함께 보관 → 조회 도중 그 사용자가 무효화되면 조회 결과를 버린다
+    private final Cache<Long, CachedToken> cache;
+    // 구독이 끊겨 전체를 비울 때만 증가
+    private final AtomicLong epoch = new AtomicLong();
+
+    // 무효화 알림 구독이 살아 있을 때만 캐시를 사용
+    private volatile boolean active;
+    private Disposable subscription;
+
+    public SessionTokenCache(ReactiveStringRedisTemplate reactiveRedisTemplate,
+                             ReactiveRedisMessageListenerContainer listenerContainer,
+                             SessionCacheProperties properties) {
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .build();
+    }
+
+    @PostConstruct
+    void subscribeInvalidations() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        subscription = ensureKeyspaceEvents()
+                .then(listenerContainer.receiveLater(PatternTopic.of(KEYSPACE_PATTERN)))
+                .doOnNext(messages -> {
+                    active = true;
+                    log.info("세션 무효화 구독 시작 → 로컬 세션 캐시 사용");
+                })
+                .flatMapMany(messages -> messages)
+                .doOnNext(message -> evict(message.getChannel()))
+                .doOnError(e -> {
+                    // 구독이 끊긴 동안의 알림은 유실되므로 캐시를 끄고 전체를 비운다
+                    log.warn("세션 무효화 구독 실패 → 로컬 세션 캐시 비활성화: {}", e.getMessage());
+                    active = false;
+                    invalidateAll();
+                })
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .subscribe();
+    }
+
+    @PreDestroy
+    void unsubscribe() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    /**
+     * 요청 토큰이 현재 세션 토큰과 일치하는지 확인한다.
+     * 캐시 값과 다르면 토큰이 갱신되었을 수 있으므로 Redis 를 다시 조회한다.
+     */
+    public Mono<Boolean> matches(Long userId, String token) {
+        if (active) {
+            CachedToken cached = cache.getIfPresent(userId);
+            if (cached != null && token.equals(cached.token())) {
+                return Mono.just(true);
+            }
+        }
+
+        return load(userId)
+                .map(token::equals)
+                .defaultIfEmpty(false);
+    }
+
+    private Mono<String> load(Long userId) {
+        long observedEpoch = epoch.get();
+        long observedGeneration = generationOf(cache.getIfPresent(userId));
+        return reactiveRedisTemplate.opsForValue().get(KEY_PREFIX + userId)
+                .doOnNext(token -> put(userId, token, observedEpoch, observedGeneration));
+    }
+
+    private void put(Long userId, String token, long observedEpoch, long observedGeneration) {
+        if (!active || epoch.get() != observedEpoch) {
+            return;
+        }
+        cache.asMap().compute(userId, (key, current) ->
+                generationOf(current) == observedGeneration ? new CachedToken(token, observedGeneration) : current);
+    }
+
+    private void evict(String channel) {
+        String key = channel.substring(channel.indexOf(KEY_PREFIX) + KEY_PREFIX.length());
+        try {
+            // 값 대신 세대만 올린 빈 항목(token=null)을 남겨 진행 중인 조회가 옛 값을 넣지 못하게 한다
+            cache.asMap().compute(Long.valueOf(key), (userId, current) ->
+                    new CachedToken(null, generationOf(current) + 1));
+        } catch (NumberFormatException e) {
+            log.debug("세션 키 형식이 올바르지 않음: {}", channel);
+        }
+    }
+
+    public void invalidateAll() {
+        epoch.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * configure-keyspace-events=true 이면 CONFIG SET 으로 직접 켜고, 아니면 CONFIG GET 으로 설정을 확인한다.
+     * 둘 다 실패하거나(관리형 Redis 의 CONFIG 명령 차단 등) 필요한 이벤트가 꺼져 있으면 에러로 끝나 캐시를 켜지 않는다.
+     */
+    private Mono<Void> ensureKeyspaceEvents() {
+        String required = properties.getKeyspaceEvents();
+        if (properties.isConfigureKeyspaceEvents()) {
+            return reactiveRedisTemplate.execute(connection -> connection.serverCommands()
+                            .setConfig(NOTIFY_KEYSPACE_EVENTS, required))
+                    .then();
+        }
+        return reactiveRedisTemplate.execute(connection -> connection.serverCommands()
+                        .getConfig(NOTIFY_KEYSPACE_EVENTS))
+                .next()
+                .map(SessionTokenCache::readKeyspaceEvents)
+                .filter(configured -> coversKeyspaceEvents(configured, required))
+                .switchIfEmpty(Mono.error(new IllegalStateException(
+                        NOTIFY_KEYSPACE_EVENTS + " 에 " + required + " 가 설정되어 있지 않음")))
+                .then();
+    }
+
+    private static String readKeyspaceEvents(Properties config) {
+        return config.getProperty(NOTIFY_KEYSPACE_EVENTS, "");
+    }
+
+    static boolean coversKeyspaceEvents(String configured, String required) {
+        for (char flag : required.toCharArray()) {
+            boolean coveredByAll = ALL_EVENT_CLASSES.indexOf(flag) >= 0 && configured.indexOf('A') >= 0;
+            if (configured.indexOf(flag) < 0 && !coveredByAll) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long generationOf(CachedToken cached) {
+        return cached == null ? 0 : cached.generation();
+    }
+
+    // token 이 null 이면 무효화 표시(세대만 보관)
+    private record CachedToken(String token, long generation) {
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.gatewayservice.config.redis;
 
 import com.example.gatewayservice.config.jwt.TokenProvider;
+import com.example.gatewayservice.dto.ClaimsResponseDTO;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
 import org.springframework.stereotype.Component;
@@ -18,13 +19,12 @@ public class SmartKeyResolver implements KeyResolver {
         String authHeader = exchange.getRequest().getHeaders().getFirst("Authorization");
 
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            String token = authHeader.substring(7);
-            try {
-                Long userId = tokenProvider.getAuthentication(token).getId();
-                return Mono.just("user:" + userId); // ✅ 유저별 제한
-            } catch (Exception e) {
-                // 토큰 파싱 실패 → fallback to IP
+            // PreGatewayFilter 가 먼저 검증했다면 exchange 에 저장된 결과를 재사용
+            ClaimsResponseDTO claims = tokenProvider.verify(exchange, authHeader.substring(7));
+            if (claims.getStatus() == TokenProvider.VALID) {
+                return Mono.just("user:" + claims.getId()); // ✅ 유저별 제한
             }
+            // 토큰 파싱 실패 → fallback to IP
         }
 
         String ip = exchange.getRequest().getRemoteAddress().getAddress().getHostAddress();
@@ -0,0 +1,96 @@
+package com.example.gatewayservice.config.shedding;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.netty.util.concurrent.EventExecutor;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.netty.http.HttpResources;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 서버 이벤트 루프 지연 측정.
+ * 주기마다 각 이벤트 루프에 빈 작업을 넣고 실제로 실행되기까지 걸린 시간을 잰다.
+ * 이전 주기의 작업이 아직 실행되지 않았으면 그동안 막혀 있던 시간을 지연으로 본다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventLoopLagMonitor {
+
+    private final LoadSheddingProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final List<Probe> probes = new ArrayList<>();
+    private final AtomicLong roundMaxNanos = new AtomicLong();
+
+    private volatile long lagNanos;
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    void start() {
+        // 서버와 같은 전역 이벤트 루프 (ReactorResourceFactory 기본 설정)
+        HttpResources.get().onServer(true).forEach(executor -> probes.add(new Probe(executor)));
+
+        TimeGauge.builder("gateway.event-loop.lag", this, TimeUnit.NANOSECONDS, EventLoopLagMonitor::getLagNanos)
+                .register(meterRegistry);
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("event-loop-lag-monitor")
+                .daemon(true)
+                .factory());
+        long interval = properties.getProbeInterval().toNanos();
+        scheduler.scheduleAtFixedRate(this::probe, interval, interval, TimeUnit.NANOSECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+    }
+
+    public long getLagNanos() {
+        return lagNanos;
+    }
+
+    private void probe() {
+        long now = System.nanoTime();
+        long lag = roundMaxNanos.getAndSet(0);
+        for (Probe probe : probes) {
+            lag = Math.max(lag, probe.submit(now));
+        }
+        lagNanos = lag;
+    }
+
+    private final class Probe {
+        private final EventExecutor executor;
+        private final AtomicLong pendingSince = new AtomicLong();
+
+        Probe(EventExecutor executor) {
+            this.executor = executor;
+        }
+
+        /**
+         * @return 이전 작업이 아직 실행되지 않았으면 막혀 있던 시간, 아니면 0
+         */
+        long submit(long now) {
+            long since = pendingSince.get();
+            if (since != 0) {
+                return now - since;
+            }
+            pendingSince.set(now);
+            executor.execute(() -> {
+                long lag = System.nanoTime() - now;
+                roundMaxNanos.accumulateAndGet(lag, Math::max);
+                pendingSince.set(0);
+            });
+            return 0;
+        }
+    }
+}
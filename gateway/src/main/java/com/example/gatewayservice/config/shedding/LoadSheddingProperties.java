@@ -0,0 +1,37 @@
+package com.example.gatewayservice.config.shedding;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+@ConfigurationProperties(prefix = "gateway.load-shedding")
+@Getter
+@Setter
+public class LoadSheddingProperties {
+    private boolean enabled = true;
+    // 게이트웨이 전체 동시 요청 수가 이 값이면 부하 1.0
+    private int maxInFlight = 2_000;
+    // 이벤트 루프 지연이 이 값이면 부하 1.0
+    private Duration maxEventLoopLag = Duration.ofMillis(100);
+    private Duration probeInterval = Duration.ofMillis(50);
+    private Duration retryAfter = Duration.ofSeconds(2);
+    private Priority defaultPriority = Priority.NORMAL;
+    // 라우트 id 별 우선순위
+    private Map<String, Priority> routes = new HashMap<>();
+    // 영상 스트리밍·업로드처럼 요청 수명이 긴 라우트. 차단 대상이지만 동시 요청 수에는 넣지 않는다
+    private Set<String> longLivedRoutes = new HashSet<>();
+    // 우선순위별로 차단을 시작할 부하 (0.0 ~ 1.0). 설정이 없는 우선순위는 차단하지 않는다
+    private Map<Priority, Double> thresholds = new EnumMap<>(Map.of(
+            Priority.LOW, 0.6,
+            Priority.NORMAL, 0.8,
+            Priority.HIGH, 0.95));
+}
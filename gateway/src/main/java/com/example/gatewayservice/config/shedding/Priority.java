@@ -0,0 +1,15 @@
+package com.example.gatewayservice.config.shedding;
+
+/**
+ * 과부하 시 차단 순서를 정하는 라우트 우선순위. 낮은 우선순위부터 먼저 차단된다.
+ */
+public enum Priority {
+    // 결제 (PortOne 연동 포함)
+    CRITICAL,
+    // 인증
+    HIGH,
+    // 강의·알림
+    NORMAL,
+    // AI
+    LOW
+}
@@ -0,0 +1,125 @@
+package com.example.gatewayservice.config.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.socket.CloseStatus;
+import org.springframework.web.reactive.socket.WebSocketHandler;
+import org.springframework.web.reactive.socket.server.RequestUpgradeStrategy;
+import org.springframework.web.reactive.socket.server.support.HandshakeWebSocketService;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * WebSocket 프록시(WebsocketRoutingFilter)가 사용하는 핸드셰이크 서비스.
+ * <p>
+ * 노드당 동시 연결 수를 제한하고(초과 시 업그레이드 전에 503), 클라이언트 세션을 {@link GuardedWebSocketSession} 으로 감싸
+ * 보낼 프레임 수를 제한한다. 유휴 시간이나 최대 수명을 넘긴 연결은 1001(Going Away)로 닫는다.
+ */
+@Slf4j
+@Primary
+@Component
+public class GuardedWebSocketService extends HandshakeWebSocketService {
+
+    private static final String REASON_IDLE = "idle";
+    private static final String REASON_MAX_LIFETIME = "max-lifetime";
+
+    private final WebSocketProperties properties;
+    private final AtomicInteger openConnections = new AtomicInteger();
+
+    private final Counter inboundFrames;
+    private final Counter outboundFrames;
+    private final Counter rejected;
+    private final Counter idleClosed;
+    private final Counter lifetimeClosed;
+    private final Counter slowConsumerClosed;
+
+    public GuardedWebSocketService(RequestUpgradeStrategy upgradeStrategy, WebSocketProperties properties,
+                                   MeterRegistry meterRegistry) {
+        super(upgradeStrategy);
+        this.properties = properties;
+
+        Gauge.builder("gateway.websocket.open", openConnections, AtomicInteger::get)
+                .register(meterRegistry);
+        this.inboundFrames = Counter.builder("gateway.websocket.frames")
+                .tag("direction", "inbound")
+                .register(meterRegistry);
+        this.outboundFrames = Counter.builder("gateway.websocket.frames")
+                .tag("direction", "outbound")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("gateway.websocket.rejected")
+                .register(meterRegistry);
+        this.idleClosed = closedCounter(meterRegistry, REASON_IDLE);
+        this.lifetimeClosed = closedCounter(meterRegistry, REASON_MAX_LIFETIME);
+        this.slowConsumerClosed = closedCounter(meterRegistry, "slow-consumer");
+    }
+
+    private static Counter closedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("gateway.websocket.closed")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> handleRequest(ServerWebExchange exchange, WebSocketHandler handler) {
+        if (openConnections.incrementAndGet() > properties.getMaxConnections()) {
+            openConnections.decrementAndGet();
+            rejected.increment();
+            log.warn("WebSocket 동시 연결 수 초과로 요청 차단: max={}", properties.getMaxConnections());
+            exchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+            return exchange.getResponse().setComplete();
+        }
+
+        AtomicBoolean handled = new AtomicBoolean();
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                openConnections.decrementAndGet();
+            }
+        };
+
+        WebSocketHandler guardedHandler = session -> {
+            handled.set(true);
+            GuardedWebSocketSession guarded = new GuardedWebSocketSession(session, properties.getMaxQueuedFrames(),
+                    inboundFrames, outboundFrames, slowConsumerClosed);
+            return Mono.firstWithSignal(handler.handle(guarded), evictWhenExpired(guarded))
+                    .doFinally(signal -> release.run());
+        };
+
+        return super.handleRequest(exchange, guardedHandler)
+                .doFinally(signal -> {
+                    // 핸드셰이크 실패 등으로 핸들러가 호출되지 않은 경우
+                    if (!handled.get()) {
+                        release.run();
+                    }
+                });
+    }
+
+    private Mono<Void> evictWhenExpired(GuardedWebSocketSession session) {
+        long idleNanos = properties.getIdleTimeout().toNanos();
+        long lifetimeNanos = properties.getMaxLifetime().toNanos();
+
+        return Flux.interval(properties.getCheckInterval())
+                .<String>handle((tick, sink) -> {
+                    long now = System.nanoTime();
+                    if (now - session.getOpenedAtNanos() > lifetimeNanos) {
+                        sink.next(REASON_MAX_LIFETIME);
+                    } else if (now - session.getLastActivityNanos() > idleNanos) {
+                        sink.next(REASON_IDLE);
+                    }
+                })
+                .next()
+                .flatMap(reason -> {
+                    (REASON_IDLE.equals(reason) ? idleClosed : lifetimeClosed).increment();
+                    return session.close(CloseStatus.GOING_AWAY.withReason(reason));
+                });
+    }
+}
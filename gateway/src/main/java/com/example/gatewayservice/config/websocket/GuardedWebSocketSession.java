@@ -0,0 +1,129 @@
+package com.example.gatewayservice.config.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.web.reactive.socket.CloseStatus;
+import org.springframework.web.reactive.socket.HandshakeInfo;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 클라이언트 쪽 WebSocket 세션 래퍼.
+ * 프레임이 오갈 때마다 마지막 활동 시각을 갱신하고, 클라이언트로 보낼 프레임은 최대 maxQueuedFrames 개까지만 쌓는다.
+ * 그 이상 밀리면 1013(Try Again Later)으로 연결을 닫는다.
+ */
+class GuardedWebSocketSession implements WebSocketSession {
+
+    private final WebSocketSession delegate;
+    private final int maxQueuedFrames;
+    private final Counter inboundFrames;
+    private final Counter outboundFrames;
+    private final Counter slowConsumerClosed;
+
+    private final long openedAtNanos = System.nanoTime();
+    private volatile long lastActivityNanos = openedAtNanos;
+
+    GuardedWebSocketSession(WebSocketSession delegate, int maxQueuedFrames,
+                            Counter inboundFrames, Counter outboundFrames, Counter slowConsumerClosed) {
+        this.delegate = delegate;
+        this.maxQueuedFrames = maxQueuedFrames;
+        this.inboundFrames = inboundFrames;
+        this.outboundFrames = outboundFrames;
+        this.slowConsumerClosed = slowConsumerClosed;
+    }
+
+    long getOpenedAtNanos() {
+        return openedAtNanos;
+    }
+
+    long getLastActivityNanos() {
+        return lastActivityNanos;
+    }
+
+    @Override
+    public Flux<WebSocketMessage> receive() {
+        return delegate.receive().doOnNext(message -> {
+            lastActivityNanos = System.nanoTime();
+            inboundFrames.increment();
+        });
+    }
+
+    @Override
+    public Mono<Void> send(Publisher<WebSocketMessage> messages) {
+        Flux<WebSocketMessage> bounded = Flux.from(messages)
+                .doOnNext(message -> lastActivityNanos = System.nanoTime())
+                .onBackpressureBuffer(maxQueuedFrames)
+                .doOnNext(message -> outboundFrames.increment())
+                .doOnDiscard(WebSocketMessage.class, message -> DataBufferUtils.release(message.getPayload()));
+
+        return delegate.send(bounded)
+                .onErrorResume(Exceptions::isOverflow, e -> {
+                    slowConsumerClosed.increment();
+                    return delegate.close(CloseStatus.SERVICE_OVERLOAD.withReason("slow consumer"));
+                });
+    }
+
+    @Override
+    public String getId() {
+        return delegate.getId();
+    }
+
+    @Override
+    public HandshakeInfo getHandshakeInfo() {
+        return delegate.getHandshakeInfo();
+    }
+
+    @Override
+    public DataBufferFactory bufferFactory() {
+        return delegate.bufferFactory();
+    }
+
+    @Override
+    public Map<String, Object> getAttributes() {
+        return delegate.getAttributes();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return delegate.isOpen();
+    }
+
+    @Override
+    public Mono<Void> close(CloseStatus status) {
+        return delegate.close(status);
+    }
+
+    @Override
+    public Mono<CloseStatus> closeStatus() {
+        return delegate.closeStatus();
+    }
+
+    @Override
+    public WebSocketMessage textMessage(String payload) {
+        return delegate.textMessage(payload);
+    }
+
+    @Override
+    public WebSocketMessage binaryMessage(Function<DataBufferFactory, DataBuffer> payloadFactory) {
+        return delegate.binaryMessage(payloadFactory);
+    }
+
+    @Override
+    public WebSocketMessage pingMessage(Function<DataBufferFactory, DataBuffer> payloadFactory) {
+        return delegate.pingMessage(payloadFactory);
+    }
+
+    @Override
+    public WebSocketMessage pongMessage(Function<DataBufferFactory, DataBuffer> payloadFactory) {
+        return delegate.pongMessage(payloadFactory);
+    }
+}
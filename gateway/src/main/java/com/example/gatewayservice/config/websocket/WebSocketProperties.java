@@ -0,0 +1,23 @@
+package com.example.gatewayservice.config.websocket;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "gateway.websocket")
+@Getter
+@Setter
+public class WebSocketProperties {
+    // 게이트웨이 노드당 최대 동시 WebSocket 연결 수
+    private int maxConnections = 2_000;
+    // 클라이언트로 보내지 못하고 쌓아 둘 수 있는 프레임 수. 넘으면 느린 클라이언트로 보고 연결을 닫는다
+    private int maxQueuedFrames = 256;
+    // 양방향 모두 프레임이 없으면 닫는다
+    private Duration idleTimeout = Duration.ofMinutes(5);
+    private Duration maxLifetime = Duration.ofHours(1);
+    private Duration checkInterval = Duration.ofSeconds(5);
+}
@@ -3,10 +3,14 @@ package com.example.gatewayservice.dto;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.Date;
+
 @Getter
 @Builder
 public class ClaimsResponseDTO {
+    private int status; // 1: 유효, 2: 만료, 3: 검증 실패
     private Long id;
     private String nickname;
     private String profileImage;
+    private Date expiration;
 }
@@ -1,19 +1,29 @@
 package com.example.gatewayservice.web;
 
+import com.example.gatewayservice.config.cache.CachedResponse;
+import com.example.gatewayservice.config.cache.ResponseCacheStore;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.reactive.function.server.RouterFunctions;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import reactor.core.publisher.Mono;
 
+import java.util.concurrent.TimeUnit;
+
 import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebEndpoints {
 
+    private final ResponseCacheStore responseCacheStore;
+
     @Bean
     public RouterFunction<ServerResponse> routes() {
         return RouterFunctions.route()
@@ -27,6 +37,14 @@ public class WebEndpoints {
     }
 
     private Mono<ServerResponse> fallback(ServerRequest request) {
+        // 캐시 대상 GET 이면 마지막 정상 응답을 대신 내려준다
+        CachedResponse stale = findStale(request);
+        if (stale != null) {
+            // ResponseCacheFilter 가 붙여 둔 X-Cache: MISS 는 ServerResponse 헤더로 덮어써지지 않는다
+            request.exchange().getResponse().getHeaders().set("X-Cache", "STALE");
+            return staleResponse(stale);
+        }
+
         String method = request.methodName();
         String message = String.format("{\"message\": \"[%s] 현재 서비스가 일시적으로 지연되고 있습니다.\"}", method);
         return ServerResponse
@@ -34,4 +52,24 @@ public class WebEndpoints {
                 .contentType(APPLICATION_JSON)
                 .bodyValue(message);
     }
+
+    private CachedResponse findStale(ServerRequest request) {
+        if (request.method() != HttpMethod.GET) {
+            return null;
+        }
+        String key = request.exchange().getAttribute(ResponseCacheStore.CACHE_KEY_ATTR);
+        return key != null ? responseCacheStore.getStale(key) : null;
+    }
+
+    private Mono<ServerResponse> staleResponse(CachedResponse stale) {
+        long ageSeconds = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - stale.storedAtNanos());
+        return ServerResponse
+                .status(stale.status())
+                .headers(headers -> stale.headers().forEach(headers::putIfAbsent))
+                .eTag(stale.etag())
+                .header(HttpHeaders.AGE, String.valueOf(ageSeconds))
+                .header(HttpHeaders.WARNING, "110 - \"Response is Stale\"")
+                .header(ResponseCacheStore.STALE_HEADER, "true")
+                .bodyValue(stale.body());
+    }
 }
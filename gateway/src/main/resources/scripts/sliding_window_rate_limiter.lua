@@ -0,0 +1,35 @@
+-- 가중치 기반 sliding window counter
+-- 시각은 게이트웨이 노드가 아니라 Redis 서버 시계(TIME)를 사용해 노드 간 시계 차이의 영향을 받지 않는다
+-- KEYS[1]: 카운터 해시 (w: 현재 윈도우 번호, cur: 현재 윈도우 합계, prev: 직전 윈도우 합계)
+-- ARGV[1]: 윈도우당 한도, ARGV[2]: 윈도우 길이(ms), ARGV[3]: 이번 요청 비용
+local limit = tonumber(ARGV[1])
+local window = tonumber(ARGV[2])
+local cost = tonumber(ARGV[3])
+
+local time = redis.call('time')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+local index = math.floor(now / window)
+local elapsed = now - index * window
+
+local state = redis.call('hmget', KEYS[1], 'w', 'cur', 'prev')
+local stored = tonumber(state[1] or '-1')
+local current = tonumber(state[2] or '0')
+local previous = tonumber(state[3] or '0')
+
+if stored == index - 1 then
+  previous = current
+  current = 0
+elseif stored ~= index then
+  previous = 0
+  current = 0
+end
+
+local estimated = previous * ((window - elapsed) / window) + current
+
+if estimated + cost > limit then
+  return { 0, math.floor(limit - estimated) }
+end
+
+redis.call('hset', KEYS[1], 'w', index, 'cur', current + cost, 'prev', previous)
+redis.call('pexpire', KEYS[1], window * 2)
+return { 1, math.floor(limit - estimated - cost) }
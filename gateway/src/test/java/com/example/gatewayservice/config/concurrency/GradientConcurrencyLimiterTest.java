@@ -0,0 +1,109 @@
+package com.example.gatewayservice.config.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GradientConcurrencyLimiterTest {
+
+    private static final long RTT = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    void 한도까지만_허용한다() {
+        GradientConcurrencyLimiter limiter = limiter(10, 20);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(10);
+    }
+
+    @Test
+    void 실패하면_backoff_비율만큼_줄이고_최소값_아래로는_내려가지_않는다() {
+        GradientConcurrencyLimiter limiter = limiter(10, 20);
+
+        limiter.tryAcquire();
+        limiter.onDropped();
+        assertThat(limiter.getLimit()).isEqualTo(5);
+
+        limiter.tryAcquire();
+        limiter.onDropped();
+        limiter.tryAcquire();
+        limiter.onDropped();
+        assertThat(limiter.getLimit()).isEqualTo(2);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void 지연이_유지되면_한도를_늘린다() {
+        GradientConcurrencyLimiter limiter = limiter(10, 20);
+        acquire(limiter, 10);
+
+        limiter.onSuccess(RTT);
+        limiter.onSuccess(RTT);
+
+        // 10 + sqrt(10)
+        assertThat(limiter.getLimit()).isEqualTo(13);
+    }
+
+    @Test
+    void 늘어난_한도는_최대값을_넘지_않는다() {
+        GradientConcurrencyLimiter limiter = limiter(10, 11);
+        acquire(limiter, 10);
+
+        limiter.onSuccess(RTT);
+        limiter.onSuccess(RTT);
+
+        assertThat(limiter.getLimit()).isEqualTo(11);
+    }
+
+    @Test
+    void 지연이_늘어나면_한도를_줄인다() {
+        GradientConcurrencyLimiter limiter = limiter(10, 20);
+        acquire(limiter, 10);
+
+        limiter.onSuccess(RTT);
+        limiter.onSuccess(RTT * 10);
+
+        // gradient 는 0.5 에서 막히므로 10 * 0.5 + sqrt(10)
+        assertThat(limiter.getLimit()).isEqualTo(8);
+    }
+
+    @Test
+    void 사용률이_절반_미만이면_한도를_바꾸지_않는다() {
+        GradientConcurrencyLimiter limiter = limiter(10, 20);
+
+        limiter.tryAcquire();
+        limiter.onSuccess(RTT);
+        limiter.tryAcquire();
+        limiter.onSuccess(RTT);
+
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void 취소된_요청은_한도에_반영하지_않는다() {
+        GradientConcurrencyLimiter limiter = limiter(10, 20);
+
+        limiter.tryAcquire();
+        limiter.onIgnore();
+
+        assertThat(limiter.getLimit()).isEqualTo(10);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    // 계산을 단순하게 하려고 smoothing 1.0, backoff 0.5 를 쓴다
+    private GradientConcurrencyLimiter limiter(int initialLimit, int maxLimit) {
+        return new GradientConcurrencyLimiter(initialLimit, 2, maxLimit, 1.5, 1.0, 0.5, 100);
+    }
+
+    private void acquire(GradientConcurrencyLimiter limiter, int count) {
+        for (int i = 0; i < count; i++) {
+            limiter.tryAcquire();
+        }
+    }
+}
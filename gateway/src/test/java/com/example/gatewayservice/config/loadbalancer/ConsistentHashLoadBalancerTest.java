@@ -0,0 +1,164 @@
+package com.example.gatewayservice.config.loadbalancer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestData;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.LinkedMultiValueMap;
+import reactor.core.publisher.Flux;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class ConsistentHashLoadBalancerTest {
+
+    private static final String SERVICE_ID = "lecture-video";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final InstanceLoadTracker loadTracker = new InstanceLoadTracker();
+    private final VideoLoadBalancerProperties properties = new VideoLoadBalancerProperties();
+    private final List<ServiceInstance> instances = new ArrayList<>();
+
+    private ConsistentHashLoadBalancer loadBalancer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ServiceInstanceListSupplier supplier = mock(ServiceInstanceListSupplier.class);
+        given(supplier.get(any())).willAnswer(invocation -> Flux.just(List.copyOf(instances)));
+        ObjectProvider<ServiceInstanceListSupplier> supplierProvider = mock(ObjectProvider.class);
+        given(supplierProvider.getIfAvailable(any())).willReturn(supplier);
+
+        instances.addAll(List.of(instance("10.0.0.1"), instance("10.0.0.2"), instance("10.0.0.3")));
+        loadBalancer = new ConsistentHashLoadBalancer(SERVICE_ID, supplierProvider, loadTracker, properties, meterRegistry);
+    }
+
+    @Test
+    void 같은_강의는_항상_같은_인스턴스로_보낸다() {
+        // 부하 한도가 끼어들지 않도록 넉넉하게
+        properties.setLoadFactor(100);
+
+        ServiceInstance first = chooseVideo("42");
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(chooseVideo("42")).isEqualTo(first);
+        }
+    }
+
+    @Test
+    void 강의들은_여러_인스턴스로_나뉜다() {
+        properties.setLoadFactor(100);
+        Set<ServiceInstance> used = new HashSet<>();
+
+        for (int lectureId = 0; lectureId < 100; lectureId++) {
+            used.add(chooseVideo(String.valueOf(lectureId)));
+        }
+
+        assertThat(used).hasSize(3);
+    }
+
+    @Test
+    void 인스턴스가_추가되면_새_인스턴스로_가는_키만_옮겨진다() {
+        properties.setLoadFactor(100);
+        Map<String, ServiceInstance> before = new HashMap<>();
+        for (int lectureId = 0; lectureId < 1_000; lectureId++) {
+            before.put(String.valueOf(lectureId), chooseVideo(String.valueOf(lectureId)));
+        }
+
+        ServiceInstance added = instance("10.0.0.4");
+        instances.add(added);
+
+        int moved = 0;
+        for (Map.Entry<String, ServiceInstance> entry : before.entrySet()) {
+            ServiceInstance after = chooseVideo(entry.getKey());
+            if (!after.equals(entry.getValue())) {
+                assertThat(after).isEqualTo(added);
+                moved++;
+            }
+        }
+        // 기대값은 1/4
+        assertThat(moved).isBetween(100, 400);
+    }
+
+    @Test
+    void 인스턴스_부하가_한도를_넘으면_링의_다음_인스턴스로_넘긴다() {
+        ServiceInstance primary = chooseVideo("42");
+        for (int i = 0; i < 5; i++) {
+            loadTracker.acquire(primary);
+        }
+
+        // 전체 부하 6, 한도 = ceil(1.25 * 7 / 3) = 3
+        ServiceInstance spilled = chooseVideo("42");
+
+        assertThat(spilled).isNotEqualTo(primary);
+        assertThat(loadTracker.load(spilled)).isEqualTo(1);
+        assertThat(meterRegistry.get("gateway.loadbalancer.spilled").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 모든_인스턴스가_한도를_넘으면_원래_인스턴스로_보낸다() {
+        properties.setLoadFactor(0.5);
+        ServiceInstance primary = chooseVideo("42");
+        for (ServiceInstance instance : instances) {
+            while (loadTracker.load(instance) < 10) {
+                loadTracker.acquire(instance);
+            }
+        }
+
+        // 한도 = ceil(0.5 * 31 / 3) = 6 이므로 모든 인스턴스가 넘는다
+        assertThat(chooseVideo("42")).isEqualTo(primary);
+        assertThat(meterRegistry.get("gateway.loadbalancer.spilled").counter().count()).isZero();
+    }
+
+    @Test
+    void 키를_뽑을_수_없는_요청은_round_robin_으로_보낸다() {
+        List<ServiceInstance> chosen = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            chosen.add(choose("/lectures/video/42").getServer());
+        }
+
+        assertThat(chosen).containsExactlyElementsOf(instances);
+    }
+
+    @Test
+    void 인스턴스가_없으면_빈_응답을_준다() {
+        instances.clear();
+
+        assertThat(choose("/lectures/video/42/stream").hasServer()).isFalse();
+    }
+
+    private ServiceInstance chooseVideo(String lectureId) {
+        return choose("/lectures/video/" + lectureId + "/stream").getServer();
+    }
+
+    private Response<ServiceInstance> choose(String path) {
+        RequestData data = new RequestData(HttpMethod.GET, URI.create("http://" + SERVICE_ID + path),
+                new HttpHeaders(), new LinkedMultiValueMap<>(), new HashMap<>());
+        Request<RequestDataContext> request = new DefaultRequest<>(new RequestDataContext(data));
+        return loadBalancer.choose(request).block();
+    }
+
+    private ServiceInstance instance(String host) {
+        return new DefaultServiceInstance(host, SERVICE_ID, host, 8080, false);
+    }
+}
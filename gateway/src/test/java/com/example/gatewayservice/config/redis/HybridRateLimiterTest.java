@@ -0,0 +1,225 @@
+package com.example.gatewayservice.config.redis;
+
+import com.example.gatewayservice.config.metrics.GatewayMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter;
+import org.springframework.cloud.gateway.filter.ratelimit.RedisRateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class HybridRateLimiterTest {
+
+    private static final String ROUTE_ID = "lecture-service";
+    private static final Duration SIMULATED = Duration.ofSeconds(10);
+
+    @SuppressWarnings("unchecked")
+    private final RedisScript<List<Long>> script = mock(RedisScript.class);
+    private final ReactiveStringRedisTemplate redisTemplate = mock(ReactiveStringRedisTemplate.class);
+    // Redis 에 요청한 토큰 수 기록
+    private final List<Integer> leases = new ArrayList<>();
+    private IntPredicate redisGrants = tokens -> true;
+    // 노드와 Redis 가 함께 쓰는 시계 (나노초)
+    private final AtomicLong clock = new AtomicLong();
+
+    private HybridRateLimiterProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.execute(eq(script), anyList(), anyList())).willAnswer(invocation -> {
+            List<?> args = invocation.getArgument(2);
+            int tokens = Integer.parseInt(args.get(3).toString());
+            leases.add(tokens);
+            return Flux.just(List.of(redisGrants.test(tokens) ? 1L : 0L, 0L));
+        });
+
+        properties = new HybridRateLimiterProperties();
+        properties.setNodeCount(2);
+        properties.setLeaseTtl(Duration.ofSeconds(1));
+        properties.setPrefetchThreshold(1);
+    }
+
+    @Test
+    void 낮은_한도에서도_최소_2개씩_임대해_매_요청_Redis를_조회하지_않는다() {
+        HybridRateLimiter limiter = limiter(5, 10);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.isAllowed(ROUTE_ID, "user-1").block().isAllowed()).isTrue();
+        }
+
+        // 5 × 1s / 2 = 2 개씩 임대. 첫 요청 후 남은 1 개가 선임대 기준 이하라 다음 배치를 미리 가져온다
+        assertThat(limiter.batchSize(config(5, 10))).isEqualTo(2);
+        assertThat(leases).containsExactly(2, 2);
+    }
+
+    @Test
+    void 높은_한도에서는_leaseTtl_동안의_노드몫을_임대해_로컬에서_처리한다() {
+        HybridRateLimiter limiter = limiter(100, 200);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.isAllowed(ROUTE_ID, "user-1").block().isAllowed()).isTrue();
+        }
+
+        // 100 × 1s / 2 = 50 개를 한 번 임대하고 나머지 9 건은 로컬 토큰으로 처리
+        assertThat(leases).containsExactly(50);
+    }
+
+    @Test
+    void 배치는_burstCapacity의_노드몫을_넘지_않는다() {
+        properties.setLeaseTtl(Duration.ofSeconds(10));
+
+        assertThat(limiter(100, 200).batchSize(config(100, 200))).isEqualTo(100);
+    }
+
+    @Test
+    void 배치가_거절되면_요청분만_다시_시도한다() {
+        redisGrants = tokens -> tokens == 1;
+        HybridRateLimiter limiter = limiter(100, 200);
+
+        RateLimiter.Response response = limiter.isAllowed(ROUTE_ID, "user-1").block();
+
+        assertThat(response.isAllowed()).isTrue();
+        assertThat(leases).containsExactly(50, 1);
+    }
+
+    @Test
+    void Redis가_거절하면_요청을_거절한다() {
+        redisGrants = tokens -> false;
+        HybridRateLimiter limiter = limiter(5, 10);
+
+        RateLimiter.Response response = limiter.isAllowed(ROUTE_ID, "user-1").block();
+
+        assertThat(response.isAllowed()).isFalse();
+    }
+
+    @Test
+    void 임대한_토큰은_leaseTtl이_지나면_버린다() {
+        HybridRateLimiter.LocalBucket bucket = new HybridRateLimiter.LocalBucket();
+        long now = System.nanoTime();
+        long ttl = Duration.ofSeconds(1).toNanos();
+
+        assertThat(bucket.tryAcquire(1, now)).isFalse();
+
+        bucket.add(2, now, ttl);
+        assertThat(bucket.tryAcquire(1, now)).isTrue();
+        assertThat(bucket.remaining(now)).isEqualTo(1);
+
+        assertThat(bucket.tryAcquire(1, now + ttl)).isFalse();
+        assertThat(bucket.remaining(now + ttl)).isZero();
+    }
+
+    @Test
+    void 모든_노드가_노드몫_이상을_받으면_과소허용은_노드별_보유분_이내다() {
+        // 노드별 초당 요청 200, 30, 5 건. 노드 몫은 10 / 3 ≈ 3.3 건
+        int admitted = simulate(10, 20, 5, 33, 200);
+
+        assertAdmitted(admitted, 10, 20, 0);
+    }
+
+    @Test
+    void 노드몫보다_적게_받는_노드는_leaseTtl마다_보유분만큼만_덜_허용한다() {
+        // 노드 몫은 100 / 3 ≈ 33 건인데 세 번째 노드는 초당 5 건만 받아 임대분을 다 쓰지 못함
+        int admitted = simulate(100, 100, 5, 33, 200);
+
+        assertAdmitted(admitted, 100, 100, 1);
+    }
+
+    /**
+     * Javadoc 의 오차 범위: B + R × T - (N + M × ⌈T / leaseTtl⌉) × (b + p) ≤ 허용 수 ≤ B + R × T
+     * (M = 로컬 수요가 노드 몫보다 적은 노드 수)
+     */
+    private void assertAdmitted(int admitted, int replenishRate, int burstCapacity, int slowNodes) {
+        long seconds = SIMULATED.toSeconds();
+        long leaseSlices = (SIMULATED.toNanos() + properties.getLeaseTtl().toNanos() - 1) / properties.getLeaseTtl().toNanos();
+        long limit = burstCapacity + (long) replenishRate * seconds;
+        long held = limiter(replenishRate, burstCapacity).batchSize(config(replenishRate, burstCapacity))
+                + properties.getPrefetchThreshold();
+
+        assertThat(admitted).isLessThanOrEqualTo((int) limit);
+        assertThat(admitted).isGreaterThanOrEqualTo(
+                (int) (limit - properties.getNodeCount() * held - slowNodes * held * leaseSlices));
+    }
+
+    /**
+     * 노드마다 HybridRateLimiter 를 하나씩 두고 하나의 Redis 버킷을 나눠 쓰게 한 뒤,
+     * 1ms 단위로 시계를 진행하며 노드 i 에 intervalsMillis[i] 마다 요청을 보내 허용된 수를 센다.
+     */
+    private int simulate(int replenishRate, int burstCapacity, int... intervalsMillis) {
+        properties.setNodeCount(intervalsMillis.length);
+        RedisBucket redis = new RedisBucket(replenishRate, burstCapacity);
+        given(redisTemplate.execute(eq(script), anyList(), anyList())).willAnswer(invocation -> {
+            List<?> args = invocation.getArgument(2);
+            boolean allowed = redis.take(Integer.parseInt(args.get(3).toString()), clock.get());
+            return Flux.just(List.of(allowed ? 1L : 0L, 0L));
+        });
+
+        List<HybridRateLimiter> nodes = new ArrayList<>();
+        for (int i = 0; i < intervalsMillis.length; i++) {
+            nodes.add(limiter(replenishRate, burstCapacity));
+        }
+
+        int admitted = 0;
+        for (long millis = 0; millis < SIMULATED.toMillis(); millis++) {
+            clock.set(Duration.ofMillis(millis).toNanos());
+            for (int i = 0; i < nodes.size(); i++) {
+                if (millis % intervalsMillis[i] == 0 && nodes.get(i).isAllowed(ROUTE_ID, "user-1").block().isAllowed()) {
+                    admitted++;
+                }
+            }
+        }
+        return admitted;
+    }
+
+    /**
+     * RedisRateLimiter Lua 스크립트와 같은 토큰 버킷
+     */
+    private static final class RedisBucket {
+        private final int replenishRate;
+        private final int burstCapacity;
+        private double tokens;
+        private long lastRefreshed;
+
+        RedisBucket(int replenishRate, int burstCapacity) {
+            this.replenishRate = replenishRate;
+            this.burstCapacity = burstCapacity;
+            this.tokens = burstCapacity;
+        }
+
+        synchronized boolean take(int requested, long now) {
+            double filled = Math.min(burstCapacity, tokens + (now - lastRefreshed) / 1e9 * replenishRate);
+            lastRefreshed = now;
+            boolean allowed = filled >= requested;
+            tokens = allowed ? filled - requested : filled;
+            return allowed;
+        }
+    }
+
+    private HybridRateLimiter limiter(int replenishRate, int burstCapacity) {
+        HybridRateLimiter limiter = new HybridRateLimiter(redisTemplate, script, mock(ConfigurationService.class),
+                properties, new GatewayMetrics(new SimpleMeterRegistry()), clock::get);
+        limiter.getConfig().put(ROUTE_ID, config(replenishRate, burstCapacity));
+        return limiter;
+    }
+
+    private static RedisRateLimiter.Config config(int replenishRate, int burstCapacity) {
+        return new RedisRateLimiter.Config()
+                .setReplenishRate(replenishRate)
+                .setBurstCapacity(burstCapacity)
+                .setRequestedTokens(1);
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/lectures")
@@ -43,6 +44,12 @@ public class LectureController {
         return ResponseEntity.ok(lectures);
     }
 
+    // 결제 내역 등에서 여러 강의 정보를 한 번에 조회할 때 사용 (GET /lectures?ids=1,2,3)
+    @GetMapping(params = "ids")
+    public List<LectureResponse> getLecturesByIds(@RequestParam Set<Long> ids) {
+        return lectureService.findAllByIds(ids);
+    }
+
     @GetMapping("/detail/{lectureId}")
     public ResponseEntity<LectureDetailResponseDTO> getDetailLecture(
             @RequestHeader("X-User-Token") String accessToken,
@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
@@ -17,7 +18,8 @@ public class VideoLectureController {
     private final VideoLectureService videoLectureService;
 
     @GetMapping("/{lectureId}/stream")
-    public ResponseEntity<StreamingResponseBody> getVideoStreamUrl(@PathVariable Long lectureId) {
-        return videoLectureService.proxyVideoStream(lectureId);
+    public ResponseEntity<StreamingResponseBody> getVideoStreamUrl(@PathVariable Long lectureId,
+                                                               @RequestHeader(value = "Range", required = false) String range) {
+        return videoLectureService.proxyVideoStream(lectureId, range);
     }
 }
@@ -22,8 +22,10 @@ import org.springframework.web.server.ResponseStatusException;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 
 @Service
@@ -31,6 +33,8 @@ import static org.springframework.http.HttpStatus.NOT_FOUND;
 @Slf4j
 public class LectureService {
 
+    public static final int MAX_BULK_IDS = 100;
+
     private final LectureRepository lectureRepository;
     private final LectureContentRepository lectureContentRepository;
     private final FileStorageService fileStorageService;
@@ -178,6 +182,20 @@ public class LectureService {
     public LectureResponse findById(Long id) {
         Lecture lecture = lectureRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "강의를 찾을 수 없습니다."));
+        return toResponse(lecture);
+    }
+
+    // 여러 강의를 IN 쿼리 한 번으로 조회 (존재하지 않는 id는 결과에서 빠짐)
+    public List<LectureResponse> findAllByIds(Set<Long> ids) {
+        if (ids.size() > MAX_BULK_IDS) {
+            throw new ResponseStatusException(BAD_REQUEST, "한 번에 조회할 수 있는 강의는 " + MAX_BULK_IDS + "개까지입니다.");
+        }
+        return lectureRepository.findAllById(ids).stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    private LectureResponse toResponse(Lecture lecture) {
         return new LectureResponse(lecture.getId(), lecture.getTitle(), lecture.getInstructorName(), lecture.getPrice());
     }
 }
@@ -28,12 +28,12 @@ public class VideoLectureService {
         return lecture.getVideoUrl();
     }
 
-    public ResponseEntity<StreamingResponseBody> proxyVideoStream(Long lectureId) {
+    public ResponseEntity<StreamingResponseBody> proxyVideoStream(Long lectureId, String range) {
         String s3Url = getVideoStreamUrl(lectureId);
 
         try {
             HttpURLConnection connection = (HttpURLConnection) new URL(s3Url).openConnection();
-            connection.setRequestProperty("Range", "bytes=0-"); // Seek 지원
+            connection.setRequestProperty("Range", range != null && !range.isBlank() ? range : "bytes=0-"); // 클라이언트 Range 그대로 전달 (Seek 지원)
             connection.connect();
 
             String contentType = connection.getContentType();
@@ -0,0 +1,91 @@
+package com.example.lectureservice.service;
+
+import com.example.lectureservice.config.client.AuthServiceClient;
+import com.example.lectureservice.dto.LectureResponse;
+import com.example.lectureservice.entity.Lecture;
+import com.example.lectureservice.repository.LectureContentRepository;
+import com.example.lectureservice.repository.LectureRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LectureServiceFindAllByIdsTest {
+
+    @InjectMocks
+    private LectureService lectureService;
+
+    @Mock
+    private LectureRepository lectureRepository;
+
+    @Mock
+    private LectureContentRepository lectureContentRepository;
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    @Mock
+    private AuthServiceClient authServiceClient;
+
+    @Test
+    @DisplayName("여러 강의를 IN 쿼리 한 번으로 조회하고 없는 id 는 결과에서 빠진다")
+    void 여러_강의를_한번에_조회한다() {
+        Set<Long> ids = Set.of(1L, 2L, 3L);
+        when(lectureRepository.findAllById(ids)).thenReturn(List.of(lecture(1L, 10000), lecture(2L, 20000)));
+
+        List<LectureResponse> responses = lectureService.findAllByIds(ids);
+
+        assertEquals(2, responses.size());
+        assertTrue(responses.contains(new LectureResponse(1L, "강의 1", "강사 1", 10000)));
+        assertTrue(responses.contains(new LectureResponse(2L, "강의 2", "강사 2", 20000)));
+        verify(lectureRepository, times(1)).findAllById(ids);
+    }
+
+    @Test
+    @DisplayName("최대 개수(100개)까지는 조회할 수 있다")
+    void 최대_개수까지는_조회한다() {
+        Set<Long> ids = ids(LectureService.MAX_BULK_IDS);
+        when(lectureRepository.findAllById(ids)).thenReturn(List.of());
+
+        assertTrue(lectureService.findAllByIds(ids).isEmpty());
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 400 을 주고 DB 를 조회하지 않는다")
+    void 최대_개수를_넘으면_400() {
+        Set<Long> ids = ids(LectureService.MAX_BULK_IDS + 1);
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> lectureService.findAllByIds(ids));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verify(lectureRepository, never()).findAllById(any());
+    }
+
+    private Set<Long> ids(int count) {
+        return LongStream.rangeClosed(1, count).boxed().collect(Collectors.toSet());
+    }
+
+    private Lecture lecture(Long id, int price) {
+        return Lecture.builder()
+                .id(id)
+                .title("강의 " + id)
+                .instructorName("강사 " + id)
+                .price(price)
+                .build();
+    }
+}
@@ -5,6 +5,7 @@ import org.example.paymentservice.admin.dto.CancelFailureResponse;
 import org.example.paymentservice.admin.dto.PurchaseFailureResponse;
 import org.example.paymentservice.admin.dto.RollBackFailureResponse;
 import org.example.paymentservice.admin.service.AdminService;
+import org.example.paymentservice.saga.PurchaseSummaryProjector;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
@@ -18,6 +19,7 @@ import reactor.core.publisher.Mono;
 public class AdminApiController {
 
     private final AdminService adminService;
+    private final PurchaseSummaryProjector summaryProjector;
 
     @GetMapping("/refund/fail")
     public Flux<RollBackFailureResponse> getFailures(
@@ -63,4 +65,11 @@ public class AdminApiController {
         return adminService.forceCancel(purchaseId)
                 .map(ResponseEntity::ok);
     }
+
+    // 결제 내역 읽기 모델(purchase_summary) 재구성
+    @PostMapping("/purchase-summary/rebuild")
+    public Mono<ResponseEntity<String>> rebuildPurchaseSummary() {
+        return summaryProjector.rebuild()
+                .map(count -> ResponseEntity.ok("결제 내역 재구성 완료: " + count + "건"));
+    }
 }
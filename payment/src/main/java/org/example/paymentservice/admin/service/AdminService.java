@@ -9,12 +9,13 @@ import org.example.paymentservice.admin.repository.CancelPagingRepository;
 import org.example.paymentservice.admin.repository.PurchasePagingRepository;
 import org.example.paymentservice.admin.repository.RollBackPagingRepository;
 import org.example.paymentservice.event.RollbackRequestedMessage;
-import org.example.paymentservice.portone.PortOneCancelResponse;
-import org.example.paymentservice.portone.PortOneClient;
 import org.example.paymentservice.purchase.entity.Purchase;
 import org.example.paymentservice.purchase.repository.CancelFailureRepository;
 import org.example.paymentservice.purchase.repository.PurchaseRepository;
 import org.example.paymentservice.purchase.repository.RollBackFailureRepository;
+import org.example.paymentservice.saga.PurchaseSummaryProjector;
+import org.example.portone.PortOneCancelResponse;
+import org.example.portone.PortOneClient;
 import org.springframework.cloud.stream.function.StreamBridge;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -36,6 +37,7 @@ public class AdminService {
     private final PurchaseRepository purchaseRepository;
     private final PortOneClient portOneClient;
     private final StreamBridge streamBridge;
+    private final PurchaseSummaryProjector summaryProjector;
 
     // Spring Data R2DBC 페이징 표준 구조
     public Flux<RollBackFailureResponse> getFailedRefund(Pageable pageable) {
@@ -94,6 +96,7 @@ public class AdminService {
 
                                                         Purchase refund = purchase.refund();
                                                         return purchaseRepository.save(refund)
+                                                                .flatMap(summaryProjector::project)
                                                                 .then(failureRepository.deleteById(id))
                                                                 .thenReturn("강제 환불 성공: id=" + purchase.id());
                                                     });
@@ -125,6 +128,7 @@ public class AdminService {
                                     if (isValid) {
                                         Purchase verified = purchase.verify(purchase.impUid());
                                         return purchaseRepository.save(verified)
+                                                .flatMap(summaryProjector::project)
                                                 .thenReturn("검증 성공: id=" + purchase.id());
                                     } else {
                                         String reason = "검증 실패: 결제 금액 불일치 (expected=" + purchase.paidAmount() + ", actual=" + rsp.response().amount() + ")";
@@ -159,6 +163,7 @@ public class AdminService {
                         default -> {
                             Purchase canceled = purchase.cancel();
                             return purchaseRepository.save(canceled)
+                                    .flatMap(summaryProjector::project)
                                     .then(cancelFailureRepository.findByPurchaseId(purchase.id()))
                                     .flatMap(failure -> cancelFailureRepository.deleteById(failure.id()))
                                     .thenReturn("취소 처리 업데이트 성공: id=" + purchase.id());
@@ -7,8 +7,6 @@ import java.net.URI;
 
 @ConfigurationProperties(prefix = "webclient")
 public record ClientProperties(
-        @NotNull
-        URI portoneUri,
         @NotNull
         URI lectureUri
 ) {}
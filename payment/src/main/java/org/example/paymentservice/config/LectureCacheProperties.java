@@ -0,0 +1,23 @@
+package org.example.paymentservice.config;
+
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+// 강의 메타데이터(제목·강사·가격) 로컬 캐시 설정
+@ConfigurationProperties(prefix = "webclient.lecture-cache")
+public record LectureCacheProperties(
+        @Positive
+        @DefaultValue("10000")
+        long maximumSize,
+
+        // 이 시간이 지나면 항목이 만료되어 다음 조회는 강의 서비스를 기다린다
+        @DefaultValue("1h")
+        Duration expireAfterWrite,
+
+        // 이 시간이 지난 항목은 조회 시 기존 값을 돌려주고 백그라운드에서 갱신한다
+        @DefaultValue("10m")
+        Duration refreshAfterWrite
+) {}
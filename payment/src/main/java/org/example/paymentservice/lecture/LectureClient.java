@@ -1,25 +1,85 @@
 package org.example.paymentservice.lecture;
 
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
+import org.example.paymentservice.config.LectureCacheProperties;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class LectureClient {
 
+    // 강의 서비스의 일괄 조회 상한(LectureService.MAX_BULK_IDS)과 맞춤
+    private static final int BATCH_SIZE = 100;
+
     private final WebClient lectureWebClient;
 
-    public Mono<LectureInfo> getLectureInfo(Long lectureId) {
-        return lectureWebClient.get()
-                .uri("/lectures/{id}", lectureId)
-                .retrieve()
-                .bodyToMono(LectureInfo.class)
-                .doOnError(e -> log.error("강의 정보 조회 실패: lectureId: {}", lectureId, e))
-                .onErrorResume(e -> Mono.just(new LectureInfo("알 수 없음", "미상", 0)));
+    // 동시에 들어온 같은 키의 미스는 하나의 요청을 공유하고, 실패한 로드는 캐시에 남지 않는다.
+    // 갱신(refresh)이 실패하면 기존 값을 유지한다.
+    private final AsyncLoadingCache<Long, LectureInfo> lectureCache;
+
+    public LectureClient(
+            WebClient lectureWebClient,
+            LectureCacheProperties cacheProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.lectureWebClient = lectureWebClient;
+        this.lectureCache = Caffeine.newBuilder()
+                .maximumSize(cacheProperties.maximumSize())
+                .expireAfterWrite(cacheProperties.expireAfterWrite())
+                .refreshAfterWrite(cacheProperties.refreshAfterWrite())
+                .recordStats()
+                .buildAsync(new AsyncCacheLoader<>() {
+                    @Override
+                    public CompletableFuture<LectureInfo> asyncLoad(Long lectureId, Executor executor) {
+                        return fetchLectureInfo(lectureId).toFuture();
+                    }
+
+                    @Override
+                    public CompletableFuture<Map<Long, LectureInfo>> asyncLoadAll(Set<? extends Long> lectureIds, Executor executor) {
+                        return fetchLectureInfos(lectureIds).toFuture();
+                    }
+                });
+        CaffeineCacheMetrics.monitor(meterRegistry, lectureCache, "lecture-info");
+    }
+
+    // 읽기 모델 반영용. 캐시를 쓰되 조회 실패는 기본값으로 바꾸지 않고 오류로 돌려주며, 실패한 조회는 캐시에 남지 않는다
+    // 강의가 삭제된 경우(404)에만 기본값을 돌려준다
+    public Mono<LectureInfo> findLectureInfo(Long lectureId) {
+        return Mono.fromFuture(() -> lectureCache.get(lectureId), true)
+                .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.just(LectureInfo.unknown()));
+    }
+
+    // 결제 금액 검증용. TTL 안에 가격이 바뀌어도 맞게 판정하도록 캐시를 거치지 않고 조회하고, 받은 값으로 캐시를 갱신한다
+    // 실패 시 기본값을 돌려주지만 캐시에는 저장하지 않음
+    public Mono<LectureInfo> getLectureInfoFresh(Long lectureId) {
+        return fetchLectureInfo(lectureId)
+                .doOnNext(lecture -> lectureCache.put(lectureId, CompletableFuture.completedFuture(lecture)))
+                .onErrorResume(e -> Mono.just(LectureInfo.unknown()));
+    }
+
+    // 캐시에 없는 id만 BATCH_SIZE 단위 요청으로 한 번에 조회하고, 일괄 조회가 실패하면 오류로 돌려준다
+    // 응답에 없는 id는 결과 Map에서 빠지며, 호출부에서 LectureInfo.unknown()으로 대체한다.
+    public Mono<Map<Long, LectureInfo>> findLectureInfos(Set<Long> lectureIds) {
+        if (lectureIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return Mono.fromFuture(() -> lectureCache.getAll(lectureIds), true);
     }
 
     public Mono<LectureDiscountResponse> reserveDiscount(Long productId) {
@@ -30,4 +90,26 @@ public class LectureClient {
                 .onStatus(status -> status.is5xxServerError(), res -> Mono.error(new IllegalStateException("강의 서비스 오류")))
                 .bodyToMono(LectureDiscountResponse.class);
     }
+
+    private Mono<LectureInfo> fetchLectureInfo(Long lectureId) {
+        return lectureWebClient.get()
+                .uri("/lectures/{id}", lectureId)
+                .retrieve()
+                .bodyToMono(LectureInfo.class)
+                .doOnError(e -> log.error("강의 정보 조회 실패: lectureId: {}", lectureId, e));
+    }
+
+    private Mono<Map<Long, LectureInfo>> fetchLectureInfos(Set<? extends Long> lectureIds) {
+        List<Long> ids = new ArrayList<>(lectureIds);
+        return Flux.range(0, (ids.size() + BATCH_SIZE - 1) / BATCH_SIZE)
+                .map(i -> ids.subList(i * BATCH_SIZE, Math.min(ids.size(), (i + 1) * BATCH_SIZE)))
+                .concatMap(batch -> lectureWebClient.get()
+                        .uri(uriBuilder -> uriBuilder.path("/lectures")
+                                .queryParam("ids", batch)
+                                .build())
+                        .retrieve()
+                        .bodyToFlux(LectureInfoResponse.class)
+                        .doOnError(e -> log.error("강의 정보 일괄 조회 실패: lectureIds: {}", batch, e)))
+                .collectMap(LectureInfoResponse::id, LectureInfoResponse::toLectureInfo);
+    }
 }
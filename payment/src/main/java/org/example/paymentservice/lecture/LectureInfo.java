@@ -4,4 +4,9 @@ public record LectureInfo(
         String title,
         String instructorName,
         Integer price
-) {}
+) {
+    // 강의 서비스 조회에 실패했거나 강의가 삭제된 경우 사용하는 기본값
+    public static LectureInfo unknown() {
+        return new LectureInfo("알 수 없음", "미상", 0);
+    }
+}
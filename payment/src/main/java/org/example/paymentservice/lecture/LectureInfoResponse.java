@@ -0,0 +1,13 @@
+package org.example.paymentservice.lecture;
+
+// 강의 일괄 조회(GET /lectures?ids=...) 응답 항목
+public record LectureInfoResponse(
+        Long id,
+        String title,
+        String instructorName,
+        Integer price
+) {
+    public LectureInfo toLectureInfo() {
+        return new LectureInfo(title, instructorName, price);
+    }
+}
@@ -7,16 +7,23 @@ import org.example.paymentservice.purchase.dto.PurchaseSaveRequest;
 import org.example.paymentservice.purchase.dto.PurchaseSummaryResponse;
 import org.example.paymentservice.purchase.entity.Purchase;
 import org.example.paymentservice.purchase.service.PurchaseService;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/pay")
 @Slf4j
 public class PurchaseApiController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final PurchaseService purchaseService;
 
     @PostMapping("/save")
@@ -34,7 +41,15 @@ public class PurchaseApiController {
     }
 
     @GetMapping("/read")
-    public Flux<PurchaseSummaryResponse> getMyPurchases(@RequestHeader("X-User-id") Long userId) {
-        return purchaseService.findByUserId(userId);
+    public Flux<PurchaseSummaryResponse> getMyPurchases(
+            @RequestHeader("X-User-id") Long userId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "100") int size
+    ) {
+        if (page < 0 || size < 1) {
+            return Flux.error(new ResponseStatusException(BAD_REQUEST, "page는 0 이상, size는 1 이상이어야 합니다."));
+        }
+        Pageable pageable = PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE));
+        return purchaseService.findByUserId(userId, pageable);
     }
 }
\ No newline at end of file
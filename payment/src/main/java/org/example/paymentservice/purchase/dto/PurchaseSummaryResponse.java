@@ -1,7 +1,8 @@
 package org.example.paymentservice.purchase.dto;
 
-import org.example.paymentservice.lecture.LectureInfo;
-import org.example.paymentservice.purchase.entity.Purchase;
+import org.example.paymentservice.purchase.entity.PurchaseSummary;
+
+import static org.example.paymentservice.purchase.type.Status.COMPLETED;
 
 import java.time.Instant;
 
@@ -15,16 +16,17 @@ public record PurchaseSummaryResponse(
         String paymentMethod,
         Instant createdAt
 ) {
-    public static PurchaseSummaryResponse of(Purchase purchase, LectureInfo lecture) {
+    // purchase_summary에는 COMPLETED 결제만 존재
+    public static PurchaseSummaryResponse from(PurchaseSummary summary) {
         return new PurchaseSummaryResponse(
-                purchase.merchantUid(),
-                purchase.productId(),
-                lecture.title(),
-                lecture.instructorName(),
-                purchase.status().name(),
-                purchase.paidAmount(),
-                purchase.paymentMethod(),
-                purchase.createdAt()
+                summary.merchantUid(),
+                summary.productId(),
+                summary.productTitle(),
+                summary.instructorName(),
+                COMPLETED.name(),
+                summary.paidAmount(),
+                summary.paymentMethod(),
+                summary.createdAt()
         );
     }
 }
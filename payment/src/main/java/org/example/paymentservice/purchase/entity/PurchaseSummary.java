@@ -0,0 +1,56 @@
+package org.example.paymentservice.purchase.entity;
+
+import lombok.Builder;
+import org.example.paymentservice.lecture.LectureInfo;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+
+// 결제 내역 조회(/pay/read)용 읽기 모델: COMPLETED 결제만 강의 제목·강사 스냅샷과 함께 보관
+@Builder
+@Table("purchase_summary")
+public record PurchaseSummary(
+        @Id
+        @Column("purchase_id")
+        Long purchaseId,
+
+        @Column("user_id")
+        Long userId,
+
+        @Column("product_id")
+        Long productId,
+
+        @Column("merchant_uid")
+        String merchantUid,
+
+        @Column("product_title")
+        String productTitle,
+
+        @Column("instructor_name")
+        String instructorName,
+
+        @Column("paid_amount")
+        int paidAmount,
+
+        @Column("payment_method")
+        String paymentMethod,
+
+        @Column("created_at")
+        Instant createdAt
+) {
+    public static PurchaseSummary of(Purchase purchase, LectureInfo lecture) {
+        return new PurchaseSummary(
+                purchase.id(),
+                purchase.userId(),
+                purchase.productId(),
+                purchase.merchantUid(),
+                lecture.title(),
+                lecture.instructorName(),
+                purchase.paidAmount(),
+                purchase.paymentMethod(),
+                purchase.createdAt()
+        );
+    }
+}
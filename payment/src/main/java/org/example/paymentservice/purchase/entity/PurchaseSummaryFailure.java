@@ -0,0 +1,24 @@
+package org.example.paymentservice.purchase.entity;
+
+import lombok.Builder;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+
+// 결제 내역 읽기 모델(purchase_summary) 반영에 실패한 결제. 재시도 후 성공하면 삭제한다
+@Builder
+@Table("purchase_summary_failure")
+public record PurchaseSummaryFailure(
+        @Id Long id,
+
+        @Column("purchase_id")
+        Long purchaseId,
+
+        String reason,
+
+        @Column("created_at")
+        Instant createdAt
+) {
+}
@@ -0,0 +1,9 @@
+package org.example.paymentservice.purchase.repository;
+
+import org.example.paymentservice.purchase.entity.PurchaseSummaryFailure;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PurchaseSummaryFailureRepository extends ReactiveCrudRepository<PurchaseSummaryFailure, Long> {
+}
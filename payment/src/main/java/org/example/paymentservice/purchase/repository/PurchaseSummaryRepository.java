@@ -0,0 +1,54 @@
+package org.example.paymentservice.purchase.repository;
+
+import org.example.paymentservice.purchase.entity.PurchaseSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+@Repository
+public interface PurchaseSummaryRepository extends ReactiveCrudRepository<PurchaseSummary, Long> {
+
+    // idx_purchase_summary_user (user_id, created_at, purchase_id) 인덱스를 타는 최신순 페이지 조회
+    Flux<PurchaseSummary> findAllByUserIdOrderByCreatedAtDescPurchaseIdDesc(Long userId, Pageable pageable);
+
+    // purchase_id가 곧 PK라 save()로는 INSERT/UPDATE를 구분할 수 없어 직접 upsert
+    // 쓰는 시점에 결제가 COMPLETED일 때만 반영해, 늦게 도착한 upsert가 취소로 지운 행을 되살리지 않게 한다 (0건이면 반영 안 됨)
+    @Modifying
+    @Query("""
+            INSERT INTO purchase_summary
+                (purchase_id, user_id, product_id, merchant_uid, product_title, instructor_name, paid_amount, payment_method, created_at)
+            SELECT
+                :purchaseId, :userId, :productId, :merchantUid, :productTitle, :instructorName, :paidAmount, :paymentMethod, :createdAt
+            FROM purchase p
+            WHERE p.id = :purchaseId AND p.status = 'COMPLETED'
+            ON DUPLICATE KEY UPDATE
+                purchase_summary.product_title = VALUES(product_title),
+                purchase_summary.instructor_name = VALUES(instructor_name),
+                purchase_summary.paid_amount = VALUES(paid_amount),
+                purchase_summary.payment_method = VALUES(payment_method)
+            """)
+    Mono<Integer> upsert(Long purchaseId, Long userId, Long productId, String merchantUid,
+                         String productTitle, String instructorName, int paidAmount,
+                         String paymentMethod, Instant createdAt);
+
+    // COMPLETED 결제가 없는(취소·환불되었거나 삭제된) 요약 행 삭제
+    @Modifying
+    @Query("""
+            DELETE s FROM purchase_summary s
+            LEFT JOIN purchase p ON p.id = s.purchase_id AND p.status = 'COMPLETED'
+            WHERE p.id IS NULL
+            """)
+    Mono<Integer> deleteWithoutCompletedPurchase();
+
+    default Mono<Integer> upsert(PurchaseSummary summary) {
+        return upsert(summary.purchaseId(), summary.userId(), summary.productId(), summary.merchantUid(),
+                summary.productTitle(), summary.instructorName(), summary.paidAmount(),
+                summary.paymentMethod(), summary.createdAt());
+    }
+}
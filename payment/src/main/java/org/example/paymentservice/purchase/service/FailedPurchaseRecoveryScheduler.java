@@ -4,10 +4,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.paymentservice.admin.repository.PurchasePagingRepository;
 import org.example.paymentservice.event.RollbackRequestedMessage;
-import org.example.paymentservice.portone.PortOneClient;
-import org.example.paymentservice.portone.PortOneVerifyResponse;
 import org.example.paymentservice.purchase.entity.Purchase;
 import org.example.paymentservice.purchase.repository.PurchaseRepository;
+import org.example.paymentservice.saga.PurchaseSummaryProjector;
+import org.example.portone.PortOneClient;
+import org.example.portone.PortOneVerifyResponse;
 import org.springframework.cloud.stream.function.StreamBridge;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
@@ -24,6 +25,7 @@ public class FailedPurchaseRecoveryScheduler {
     private final PurchasePagingRepository purchasePagingRepository;
     private final PortOneClient portOneClient;
     private final StreamBridge streamBridge;
+    private final PurchaseSummaryProjector summaryProjector;
 
     @Scheduled(fixedDelay = 60 * 1000)
     public void autoRetryVerification() {
@@ -46,7 +48,8 @@ public class FailedPurchaseRecoveryScheduler {
                     if (res != null && res.amount() == purchase.paidAmount()) {
                         log.info("재검증 성공 id={}", purchase.id());
                         Purchase verified = purchase.verify(purchase.impUid());
-                        return purchaseRepository.save(verified);
+                        return purchaseRepository.save(verified)
+                                .flatMap(summaryProjector::project);
                     }
 
                     // 포트원 응답 없음 → 이미 취소되었거나 삭제된 imp_uid
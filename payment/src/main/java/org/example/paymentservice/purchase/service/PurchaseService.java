@@ -3,8 +3,6 @@ package org.example.paymentservice.purchase.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.paymentservice.lecture.LectureClient;
-import org.example.paymentservice.portone.PortOneCancelResponse;
-import org.example.paymentservice.portone.PortOneClient;
 import org.example.paymentservice.purchase.dto.PurchaseCancelRequest;
 import org.example.paymentservice.purchase.dto.PurchaseSaveRequest;
 import org.example.paymentservice.purchase.dto.PurchaseSummaryResponse;
@@ -12,7 +10,12 @@ import org.example.paymentservice.purchase.entity.CancelFailure;
 import org.example.paymentservice.purchase.entity.Purchase;
 import org.example.paymentservice.purchase.repository.CancelFailureRepository;
 import org.example.paymentservice.purchase.repository.PurchaseRepository;
+import org.example.paymentservice.purchase.repository.PurchaseSummaryRepository;
 import org.example.paymentservice.saga.PurchaseSagaCoordinator;
+import org.example.paymentservice.saga.PurchaseSummaryProjector;
+import org.example.portone.PortOneCancelResponse;
+import org.example.portone.PortOneClient;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 import reactor.core.publisher.Flux;
@@ -30,10 +33,12 @@ import static org.springframework.http.HttpStatus.*;
 public class PurchaseService {
 
     private final PurchaseRepository purchaseRepository;
+    private final PurchaseSummaryRepository purchaseSummaryRepository;
     private final CancelFailureRepository cancelFailureRepository;
     private final PortOneClient portOneClient;
     private final LectureClient lectureClient;
     private final PurchaseSagaCoordinator sagaCoordinator;
+    private final PurchaseSummaryProjector summaryProjector;
 
     public Mono<Purchase> savePurchase(PurchaseSaveRequest request, Long userId) {
         return lectureClient.reserveDiscount(request.getProductId())
@@ -74,6 +79,7 @@ public class PurchaseService {
                                 if (res != null && "cancelled".equals(res.status())) {
                                     Purchase canceled = purchase.cancel();
                                     return purchaseRepository.save(canceled)
+                                            .flatMap(summaryProjector::project)
                                             .onErrorResume(e -> {
                                                 log.error("환불은 완료되었으나, DB 업데이트에 실패하였습니다.", e);
                                                 return saveCancelFailure(purchase, e.getMessage())
@@ -90,13 +96,10 @@ public class PurchaseService {
                 });
     }
 
-    public Flux<PurchaseSummaryResponse> findByUserId(Long userId) {
-        return purchaseRepository.findAllByUserId(userId)
-                .filter(p -> p.status() == COMPLETED)
-                .flatMap(purchase ->
-                        lectureClient.getLectureInfo(purchase.productId())
-                                .map(lecture -> PurchaseSummaryResponse.of(purchase, lecture))
-                );
+    // purchase_summary 읽기 모델에서 최신순으로 조회 (강의 정보는 결제 완료 시점 스냅샷)
+    public Flux<PurchaseSummaryResponse> findByUserId(Long userId, Pageable pageable) {
+        return purchaseSummaryRepository.findAllByUserIdOrderByCreatedAtDescPurchaseIdDesc(userId, pageable)
+                .map(PurchaseSummaryResponse::from);
     }
 
     public int applyDiscount(int productPrice, BigDecimal discountRate) {
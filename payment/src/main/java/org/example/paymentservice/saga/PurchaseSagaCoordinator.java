@@ -25,6 +25,7 @@ public class PurchaseSagaCoordinator {
     private final PurchaseRepository purchaseRepository;
     private final RollBackFailureRepository failureRepository;
     private final StreamBridge streamBridge;
+    private final PurchaseSummaryProjector summaryProjector;
 
     public Mono<Purchase> execute(PurchaseSaveRequest request, Long userId) {
         Purchase pending = Purchase.builder()
@@ -54,7 +55,8 @@ public class PurchaseSagaCoordinator {
                         if (message.isValid()) {
                             log.info("검증 성공: purchaseId={}", purchaseId);
                             Purchase verified = purchase.verify(purchase.impUid());
-                            return purchaseRepository.save(verified);
+                            return purchaseRepository.save(verified)
+                                    .flatMap(summaryProjector::project);
                         }
 
                         String reason = message.reason();
@@ -88,7 +90,8 @@ public class PurchaseSagaCoordinator {
                         .flatMap(purchase -> {
                             if (message.isRollBacked()) {
                                 Purchase refund = purchase.refund(); // 결제 검증이 실패했기 때문에 롤백으로 취소처리 됨 = 결제 환불
-                                return purchaseRepository.save(refund);
+                                return purchaseRepository.save(refund)
+                                        .flatMap(summaryProjector::project);
                             } else {
                                 return saveRollBackFailureLog(purchase, message.reason())
                                         .then(Mono.empty()); // 실패 로그만 저장하고 별도로 반환할 Purchase 객체 없이 흐름 끝
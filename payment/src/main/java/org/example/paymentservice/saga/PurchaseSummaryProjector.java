@@ -0,0 +1,123 @@
+package org.example.paymentservice.saga;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.paymentservice.admin.repository.PurchasePagingRepository;
+import org.example.paymentservice.lecture.LectureClient;
+import org.example.paymentservice.lecture.LectureInfo;
+import org.example.paymentservice.purchase.entity.Purchase;
+import org.example.paymentservice.purchase.entity.PurchaseSummary;
+import org.example.paymentservice.purchase.entity.PurchaseSummaryFailure;
+import org.example.paymentservice.purchase.repository.PurchaseRepository;
+import org.example.paymentservice.purchase.repository.PurchaseSummaryFailureRepository;
+import org.example.paymentservice.purchase.repository.PurchaseSummaryRepository;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.example.paymentservice.purchase.type.Status.COMPLETED;
+
+/**
+ * purchase_summary 읽기 모델 갱신.
+ * 결제가 COMPLETED가 되면 강의 정보 스냅샷과 함께 upsert하고, COMPLETED에서 벗어나면(취소·환불 등) 삭제한다.
+ * 결제 상태를 저장한 직후 호출하며, 반영에 실패해도 결제 흐름은 막지 않는다.
+ * 강의 정보 조회나 DB 반영이 실패하면 기본값으로 덮어쓰지 않고 purchase_summary_failure 에 남겨 재시도한다.
+ * upsert는 DB의 현재 결제 상태가 COMPLETED일 때만 반영되므로, 강의 정보 조회 중 취소가 먼저 반영되어도 행이 되살아나지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PurchaseSummaryProjector {
+
+    private static final int REBUILD_BATCH_SIZE = 100;
+
+    private final PurchaseSummaryRepository summaryRepository;
+    private final PurchaseSummaryFailureRepository failureRepository;
+    private final PurchaseRepository purchaseRepository;
+    private final PurchasePagingRepository purchasePagingRepository;
+    private final LectureClient lectureClient;
+
+    public Mono<Purchase> project(Purchase purchase) {
+        return apply(purchase)
+                .onErrorResume(e -> {
+                    log.error("결제 내역 읽기 모델 반영 실패: purchaseId={}, status={}", purchase.id(), purchase.status(), e);
+                    return saveFailureLog(purchase, e);
+                })
+                .thenReturn(purchase);
+    }
+
+    // 반영에 실패해 남겨 둔 결제를 현재 상태로 다시 반영하고, 성공한 건은 실패 기록을 지운다
+    public Mono<Long> retryFailures() {
+        return failureRepository.findAll()
+                .concatMap(failure -> purchaseRepository.findById(failure.purchaseId())
+                        .flatMap(this::apply)
+                        .then(Mono.defer(() -> failureRepository.delete(failure)))
+                        .thenReturn(failure)
+                        .onErrorResume(e -> {
+                            log.warn("결제 내역 읽기 모델 재반영 실패: purchaseId={}", failure.purchaseId(), e);
+                            return Mono.empty();
+                        }))
+                .count();
+    }
+
+    // 기존 COMPLETED 결제 전체를 다시 반영하고, COMPLETED 결제가 없는 요약 행은 지운다 (최초 배포 시 백필, 반영 실패 복구용)
+    public Mono<Long> rebuild() {
+        return purchasePagingRepository.findAllByStatus(COMPLETED)
+                .buffer(REBUILD_BATCH_SIZE)
+                .concatMap(this::rebuildBatch)
+                .count()
+                .flatMap(count -> summaryRepository.deleteWithoutCompletedPurchase()
+                        .doOnNext(deleted -> log.info("결제 내역 읽기 모델 재구성 완료: 반영 {}건, 삭제 {}건", count, deleted))
+                        .thenReturn(count));
+    }
+
+    private Flux<Integer> rebuildBatch(List<Purchase> purchases) {
+        Set<Long> productIds = purchases.stream()
+                .map(Purchase::productId)
+                .collect(Collectors.toSet());
+        return lectureClient.findLectureInfos(productIds)
+                .flatMapMany(lectures -> Flux.fromIterable(purchases)
+                        .concatMap(purchase -> summaryRepository.upsert(PurchaseSummary.of(purchase,
+                                        // 응답에 없는 강의는 삭제된 강의
+                                        lectures.getOrDefault(purchase.productId(), LectureInfo.unknown())))
+                                .onErrorResume(e -> saveFailureLog(purchase, e).then(Mono.<Integer>empty()))))
+                .onErrorResume(e -> {
+                    log.error("결제 내역 재구성 중 강의 정보 일괄 조회 실패: productIds={}", productIds, e);
+                    return Flux.fromIterable(purchases)
+                            .concatMap(purchase -> saveFailureLog(purchase, e))
+                            .then(Mono.<Integer>empty());
+                });
+    }
+
+    private Mono<Void> apply(Purchase purchase) {
+        if (purchase.status() != COMPLETED) {
+            return summaryRepository.deleteById(purchase.id());
+        }
+        return lectureClient.findLectureInfo(purchase.productId())
+                .flatMap(lecture -> summaryRepository.upsert(PurchaseSummary.of(purchase, lecture)))
+                .doOnNext(updated -> {
+                    if (updated == 0) {
+                        log.info("결제가 더 이상 COMPLETED가 아니어서 읽기 모델에 반영하지 않음: purchaseId={}", purchase.id());
+                    }
+                })
+                .then();
+    }
+
+    private Mono<Void> saveFailureLog(Purchase purchase, Throwable cause) {
+        PurchaseSummaryFailure failureLog = PurchaseSummaryFailure.builder()
+                .purchaseId(purchase.id())
+                .reason(cause.getMessage())
+                .createdAt(Instant.now())
+                .build();
+
+        return failureRepository.save(failureLog)
+                .doOnError(e -> log.error("결제 내역 읽기 모델 실패 기록 저장 실패: purchaseId={}", purchase.id(), e))
+                .onErrorResume(e -> Mono.empty())
+                .then();
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.paymentservice.saga;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PurchaseSummaryRetryScheduler {
+
+    private final PurchaseSummaryProjector summaryProjector;
+
+    @Scheduled(fixedDelay = 60 * 1000)
+    public void retryFailedProjections() {
+        summaryProjector.retryFailures()
+                .subscribe(
+                        retried -> {
+                            if (retried > 0) {
+                                log.info("결제 내역 읽기 모델 재반영 완료: {}건", retried);
+                            }
+                        },
+                        error -> log.error("결제 내역 읽기 모델 재반영 에러 발생", error)
+                );
+    }
+}
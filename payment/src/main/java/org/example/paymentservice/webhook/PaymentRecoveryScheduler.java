@@ -4,10 +4,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.paymentservice.event.RollbackRequestedMessage;
 import org.example.paymentservice.lecture.LectureClient;
-import org.example.paymentservice.portone.PortOneClient;
 import org.example.paymentservice.purchase.entity.Purchase;
 import org.example.paymentservice.purchase.repository.PurchaseRepository;
 import org.example.paymentservice.purchase.type.Status;
+import org.example.paymentservice.saga.PurchaseSummaryProjector;
+import org.example.portone.PortOneClient;
 import org.springframework.cloud.stream.function.StreamBridge;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -25,6 +26,7 @@ public class PaymentRecoveryScheduler {
     private final PurchaseRepository purchaseRepository;
     private final LectureClient lectureClient;
     private final StreamBridge streamBridge;
+    private final PurchaseSummaryProjector summaryProjector;
 
     @Scheduled(fixedDelay = 60000) // 1분마다 실행
     public void recoverMissingPayments() {
@@ -41,7 +43,7 @@ public class PaymentRecoveryScheduler {
                             Long productId = Long.valueOf(payment.getCustomData().get("product_id").toString());
                             Integer paidAmount = payment.getAmount();
 
-                            return lectureClient.getLectureInfo(productId)
+                            return lectureClient.getLectureInfoFresh(productId)
                                     .flatMap(lecture -> {
                                         Integer productPrice = lecture.price();
                                         Status status = paidAmount.equals(productPrice)
@@ -63,6 +65,7 @@ public class PaymentRecoveryScheduler {
                                                 .build();
 
                                         return purchaseRepository.save(purchase)
+                                                .flatMap(summaryProjector::project)
                                                 .doOnSuccess(saved -> {
                                                     log.info("결제 저장 완료: {}", saved.impUid());
                                                     if (status == Status.ROLLBACK_REQUESTED) {
@@ -4,11 +4,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.paymentservice.event.RollbackRequestedMessage;
 import org.example.paymentservice.lecture.LectureClient;
-import org.example.paymentservice.portone.PortOneClient;
 import org.example.paymentservice.purchase.entity.Purchase;
 import org.example.paymentservice.purchase.repository.PurchaseRepository;
 import org.example.paymentservice.purchase.type.Status;
+import org.example.paymentservice.saga.PurchaseSummaryProjector;
 import org.example.paymentservice.webhook.dto.PortOneWebhookRequest;
+import org.example.portone.PortOneClient;
 import org.springframework.cloud.stream.function.StreamBridge;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
@@ -27,6 +28,7 @@ public class PortOneWebhookController {
     private final PurchaseRepository purchaseRepository;
     private final LectureClient lectureClient;
     private final StreamBridge streamBridge;
+    private final PurchaseSummaryProjector summaryProjector;
 
     @PostMapping("/webhook")
     @ResponseStatus(HttpStatus.OK)
@@ -55,7 +57,7 @@ public class PortOneWebhookController {
                                     Long productId = Long.valueOf(customData.get("product_id").toString());
                                     Integer paidAmount = payment.getAmount();
 
-                                    return lectureClient.getLectureInfo(productId)
+                                    return lectureClient.getLectureInfoFresh(productId)
                                             .flatMap(lecture -> {
                                                 Integer productPrice = lecture.price();
                                                 if (productPrice == null || paidAmount <= 0) {
@@ -82,6 +84,7 @@ public class PortOneWebhookController {
                                                         .build();
 
                                                 return purchaseRepository.save(purchase)
+                                                        .flatMap(summaryProjector::project)
                                                         .flatMap(saved -> {
                                                             if (status == Status.ROLLBACK_REQUESTED) {
                                                                 RollbackRequestedMessage message = new RollbackRequestedMessage(
@@ -0,0 +1,132 @@
+package org.example.paymentservice.lecture;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.paymentservice.config.LectureCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LectureClientTest {
+
+    private static final String LECTURE_BODY = """
+            {"id": 10, "title": "스프링 입문", "instructorName": "김강사", "price": %d}
+            """;
+
+    private final AtomicInteger lectureCalls = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+    private final AtomicInteger price = new AtomicInteger(10000);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LectureClient lectureClient;
+
+    @BeforeEach
+    void setUp() {
+        // failures 만큼 500을 응답한 뒤 정상 응답, 모든 응답은 50ms 지연
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    lectureCalls.incrementAndGet();
+                    if (failures.getAndDecrement() > 0) {
+                        return Mono.just(json(HttpStatus.INTERNAL_SERVER_ERROR, "{}"));
+                    }
+                    String lecture = LECTURE_BODY.formatted(price.get());
+                    String body = request.url().getQuery() != null ? "[" + lecture + "]" : lecture;
+                    return Mono.just(json(HttpStatus.OK, body)).delayElement(Duration.ofMillis(50));
+                })
+                .build();
+
+        LectureCacheProperties properties = new LectureCacheProperties(100, Duration.ofHours(1), Duration.ofMinutes(10));
+        lectureClient = new LectureClient(webClient, properties, meterRegistry);
+    }
+
+    @Test
+    void 조회실패는_캐시되지_않는다() {
+        failures.set(1);
+
+        assertThatThrownBy(() -> lectureClient.findLectureInfo(10L).block())
+                .isInstanceOf(WebClientResponseException.class);
+        LectureInfo lecture = lectureClient.findLectureInfo(10L).block();
+
+        assertThat(lecture.title()).isEqualTo("스프링 입문");
+        assertThat(lectureCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 동시에_들어온_미스는_한번만_조회한다() {
+        Mono<LectureInfo> first = lectureClient.findLectureInfo(10L);
+        Mono<LectureInfo> second = lectureClient.findLectureInfo(10L);
+
+        Mono.zip(first, second).block();
+        lectureClient.findLectureInfo(10L).block();
+
+        assertThat(lectureCalls.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void 일괄조회는_캐시에_없는_강의만_요청한다() {
+        lectureClient.findLectureInfo(10L).block();
+
+        Map<Long, LectureInfo> lectures = lectureClient.findLectureInfos(Set.of(10L)).block();
+
+        assertThat(lectures).containsKey(10L);
+        assertThat(lectureCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 결제검증용_조회는_TTL_안에서도_바뀐_가격을_본다() {
+        lectureClient.findLectureInfo(10L).block();
+        price.set(12000);
+
+        LectureInfo cached = lectureClient.findLectureInfo(10L).block();
+        LectureInfo fresh = lectureClient.getLectureInfoFresh(10L).block();
+        LectureInfo afterFresh = lectureClient.findLectureInfo(10L).block();
+
+        assertThat(cached.price()).isEqualTo(10000);
+        assertThat(fresh.price()).isEqualTo(12000);
+        // 새로 받은 값으로 캐시도 갱신된다
+        assertThat(afterFresh.price()).isEqualTo(12000);
+        assertThat(lectureCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 결제검증용_조회가_실패하면_기본값을_돌려주고_캐시하지_않는다() {
+        failures.set(1);
+
+        LectureInfo fallback = lectureClient.getLectureInfoFresh(10L).block();
+        LectureInfo lecture = lectureClient.findLectureInfo(10L).block();
+
+        assertThat(fallback).isEqualTo(LectureInfo.unknown());
+        assertThat(lecture.price()).isEqualTo(10000);
+    }
+
+    @Test
+    void 읽기모델용_조회는_실패를_기본값으로_바꾸지_않는다() {
+        failures.set(2);
+
+        assertThatThrownBy(() -> lectureClient.findLectureInfo(10L).block())
+                .isInstanceOf(WebClientResponseException.class);
+        assertThatThrownBy(() -> lectureClient.findLectureInfos(Set.of(10L)).block())
+                .isInstanceOf(WebClientResponseException.class);
+        assertThat(lectureClient.findLectureInfo(10L).block().title()).isEqualTo("스프링 입문");
+    }
+
+    private static ClientResponse json(HttpStatus status, String body) {
+        return ClientResponse.create(status)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build();
+    }
+}
@@ -2,31 +2,40 @@ package org.example.paymentservice.purchase.service;
 
 import org.example.paymentservice.lecture.LectureClient;
 import org.example.paymentservice.lecture.LectureDiscountResponse;
-import org.example.paymentservice.portone.PortOneCancelResponse;
-import org.example.paymentservice.portone.PortOneClient;
 import org.example.paymentservice.purchase.dto.PurchaseCancelRequest;
 import org.example.paymentservice.purchase.dto.PurchaseSaveRequest;
+import org.example.paymentservice.purchase.dto.PurchaseSummaryResponse;
 import org.example.paymentservice.purchase.entity.Purchase;
+import org.example.paymentservice.purchase.entity.PurchaseSummary;
 import org.example.paymentservice.purchase.repository.CancelFailureRepository;
 import org.example.paymentservice.purchase.repository.PurchaseRepository;
+import org.example.paymentservice.purchase.repository.PurchaseSummaryRepository;
 import org.example.paymentservice.purchase.type.Status;
 import org.example.paymentservice.saga.PurchaseSagaCoordinator;
+import org.example.paymentservice.saga.PurchaseSummaryProjector;
+import org.example.portone.PortOneCancelResponse;
+import org.example.portone.PortOneClient;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 
 @ExtendWith(MockitoExtension.class)
 class PurchaseServiceTest {
@@ -36,6 +45,8 @@ class PurchaseServiceTest {
     @Mock private PortOneClient portOneClient;
     @Mock private LectureClient lectureClient;
     @Mock private PurchaseSagaCoordinator sagaCoordinator;
+    @Mock private PurchaseSummaryRepository purchaseSummaryRepository;
+    @Mock private PurchaseSummaryProjector summaryProjector;
 
     @InjectMocks
     private PurchaseService purchaseService;
@@ -113,6 +124,7 @@ class PurchaseServiceTest {
         given(purchaseRepository.findByMerchantUid(merchantUid)).willReturn(Mono.just(original));
         given(portOneClient.cancelPayment("imp-001", paidAmount)).willReturn(Mono.just(response));
         given(purchaseRepository.save(any(Purchase.class))).willReturn(Mono.just(canceled));
+        given(summaryProjector.project(canceled)).willReturn(Mono.just(canceled));
 
         PurchaseCancelRequest request = new PurchaseCancelRequest();
         request.setMerchantUid(merchantUid);
@@ -297,4 +309,35 @@ class PurchaseServiceTest {
         assertThat(((ResponseStatusException) ex).getStatusCode().value()).isEqualTo(400);
     }
 
+    // ✅ [3] 결제 내역 조회 단위 테스트
+
+    @Test
+    void 결제내역조회는_읽기모델만_조회한다() {
+        Long userId = 1L;
+        Pageable pageable = PageRequest.of(0, 20);
+        PurchaseSummary summary = PurchaseSummary.builder()
+                .purchaseId(1L)
+                .userId(userId)
+                .productId(10L)
+                .merchantUid("merchant-1")
+                .productTitle("스프링 입문")
+                .instructorName("김강사")
+                .paidAmount(10000)
+                .paymentMethod("card")
+                .createdAt(Instant.now())
+                .build();
+
+        given(purchaseSummaryRepository.findAllByUserIdOrderByCreatedAtDescPurchaseIdDesc(userId, pageable))
+                .willReturn(Flux.just(summary));
+
+        List<PurchaseSummaryResponse> result = purchaseService.findByUserId(userId, pageable).collectList().block();
+
+        assertThat(result).singleElement()
+                .satisfies(response -> {
+                    assertThat(response.productTitle()).isEqualTo("스프링 입문");
+                    assertThat(response.status()).isEqualTo("COMPLETED");
+                });
+        then(purchaseRepository).shouldHaveNoInteractions();
+        then(lectureClient).shouldHaveNoInteractions();
+    }
 }
@@ -0,0 +1,178 @@
+package org.example.paymentservice.saga;
+
+import org.example.paymentservice.admin.repository.PurchasePagingRepository;
+import org.example.paymentservice.lecture.LectureClient;
+import org.example.paymentservice.lecture.LectureInfo;
+import org.example.paymentservice.purchase.entity.Purchase;
+import org.example.paymentservice.purchase.entity.PurchaseSummary;
+import org.example.paymentservice.purchase.entity.PurchaseSummaryFailure;
+import org.example.paymentservice.purchase.repository.PurchaseRepository;
+import org.example.paymentservice.purchase.repository.PurchaseSummaryFailureRepository;
+import org.example.paymentservice.purchase.repository.PurchaseSummaryRepository;
+import org.example.paymentservice.purchase.type.Status;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class PurchaseSummaryProjectorTest {
+
+    @Mock private PurchaseSummaryRepository summaryRepository;
+    @Mock private PurchaseSummaryFailureRepository failureRepository;
+    @Mock private PurchaseRepository purchaseRepository;
+    @Mock private PurchasePagingRepository purchasePagingRepository;
+    @Mock private LectureClient lectureClient;
+
+    @InjectMocks
+    private PurchaseSummaryProjector projector;
+
+    @Test
+    void 결제완료시_강의정보_스냅샷과_함께_저장한다() {
+        Purchase completed = purchase(Status.COMPLETED);
+        given(lectureClient.findLectureInfo(10L)).willReturn(Mono.just(new LectureInfo("스프링 입문", "김강사", 10000)));
+        given(summaryRepository.upsert(any(PurchaseSummary.class))).willReturn(Mono.just(1));
+
+        Purchase result = projector.project(completed).block();
+
+        assertThat(result).isEqualTo(completed);
+        then(summaryRepository).should().upsert(PurchaseSummary.of(completed, new LectureInfo("스프링 입문", "김강사", 10000)));
+    }
+
+    @Test
+    void 반영하기_전에_결제가_취소되어_upsert가_0건이어도_실패로_기록하지_않는다() {
+        Purchase completed = purchase(Status.COMPLETED);
+        given(lectureClient.findLectureInfo(10L)).willReturn(Mono.just(new LectureInfo("스프링 입문", "김강사", 10000)));
+        // 조건부 upsert: DB의 결제가 이미 CANCELED라 삽입되지 않음
+        given(summaryRepository.upsert(any(PurchaseSummary.class))).willReturn(Mono.just(0));
+
+        Purchase result = projector.project(completed).block();
+
+        assertThat(result).isEqualTo(completed);
+        then(failureRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void 결제완료에서_벗어나면_읽기모델에서_삭제한다() {
+        Purchase canceled = purchase(Status.CANCELED);
+        given(summaryRepository.deleteById(1L)).willReturn(Mono.empty());
+
+        projector.project(canceled).block();
+
+        then(summaryRepository).should().deleteById(1L);
+        then(lectureClient).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void 읽기모델_반영에_실패해도_결제흐름은_계속된다() {
+        Purchase canceled = purchase(Status.CANCELED);
+        given(summaryRepository.deleteById(1L)).willReturn(Mono.error(new RuntimeException("DB 오류")));
+
+        given(failureRepository.save(any(PurchaseSummaryFailure.class))).willAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        Purchase result = projector.project(canceled).block();
+
+        assertThat(result).isEqualTo(canceled);
+        then(failureRepository).should().save(any(PurchaseSummaryFailure.class));
+    }
+
+    @Test
+    void 강의정보_조회에_실패하면_기본값으로_덮어쓰지_않고_실패를_기록한다() {
+        Purchase completed = purchase(Status.COMPLETED);
+        given(lectureClient.findLectureInfo(10L)).willReturn(Mono.error(new RuntimeException("강의 서비스 오류")));
+        given(failureRepository.save(any(PurchaseSummaryFailure.class))).willAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        Purchase result = projector.project(completed).block();
+
+        assertThat(result).isEqualTo(completed);
+        then(summaryRepository).should(never()).upsert(any(PurchaseSummary.class));
+        then(failureRepository).should().save(any(PurchaseSummaryFailure.class));
+    }
+
+    @Test
+    void 실패기록은_현재_결제상태로_다시_반영하고_성공하면_지운다() {
+        Purchase completed = purchase(Status.COMPLETED);
+        PurchaseSummaryFailure failure = PurchaseSummaryFailure.builder().id(5L).purchaseId(1L).build();
+        given(failureRepository.findAll()).willReturn(Flux.just(failure));
+        given(purchaseRepository.findById(1L)).willReturn(Mono.just(completed));
+        given(lectureClient.findLectureInfo(10L)).willReturn(Mono.just(new LectureInfo("스프링 입문", "김강사", 10000)));
+        given(summaryRepository.upsert(any(PurchaseSummary.class))).willReturn(Mono.just(1));
+        given(failureRepository.delete(failure)).willReturn(Mono.empty());
+
+        Long retried = projector.retryFailures().block();
+
+        assertThat(retried).isEqualTo(1);
+        then(failureRepository).should().delete(failure);
+    }
+
+    @Test
+    void 재반영에_실패하면_실패기록을_남겨둔다() {
+        PurchaseSummaryFailure failure = PurchaseSummaryFailure.builder().id(5L).purchaseId(1L).build();
+        given(failureRepository.findAll()).willReturn(Flux.just(failure));
+        given(purchaseRepository.findById(1L)).willReturn(Mono.just(purchase(Status.COMPLETED)));
+        given(lectureClient.findLectureInfo(10L)).willReturn(Mono.error(new RuntimeException("강의 서비스 오류")));
+
+        Long retried = projector.retryFailures().block();
+
+        assertThat(retried).isZero();
+        then(failureRepository).should(never()).delete(any(PurchaseSummaryFailure.class));
+    }
+
+    @Test
+    void 재구성은_완료된_결제를_반영하고_완료가_아닌_요약행을_지운다() {
+        Purchase completed = purchase(Status.COMPLETED);
+        given(purchasePagingRepository.findAllByStatus(Status.COMPLETED)).willReturn(Flux.just(completed));
+        given(lectureClient.findLectureInfos(Set.of(10L))).willReturn(Mono.just(Map.of(10L, new LectureInfo("스프링 입문", "김강사", 10000))));
+        given(summaryRepository.upsert(any(PurchaseSummary.class))).willReturn(Mono.just(1));
+        given(summaryRepository.deleteWithoutCompletedPurchase()).willReturn(Mono.just(2));
+
+        Long rebuilt = projector.rebuild().block();
+
+        assertThat(rebuilt).isEqualTo(1);
+        then(summaryRepository).should().deleteWithoutCompletedPurchase();
+    }
+
+    @Test
+    void 재구성중_강의정보_일괄조회에_실패하면_해당_배치를_실패로_기록한다() {
+        Purchase completed = purchase(Status.COMPLETED);
+        given(purchasePagingRepository.findAllByStatus(Status.COMPLETED)).willReturn(Flux.just(completed));
+        given(lectureClient.findLectureInfos(Set.of(10L))).willReturn(Mono.error(new RuntimeException("강의 서비스 오류")));
+        given(failureRepository.save(any(PurchaseSummaryFailure.class))).willAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        given(summaryRepository.deleteWithoutCompletedPurchase()).willReturn(Mono.just(0));
+
+        Long rebuilt = projector.rebuild().block();
+
+        assertThat(rebuilt).isZero();
+        then(summaryRepository).should(never()).upsert(any(PurchaseSummary.class));
+        then(failureRepository).should().save(any(PurchaseSummaryFailure.class));
+    }
+
+    private Purchase purchase(Status status) {
+        return Purchase.builder()
+                .id(1L)
+                .userId(1L)
+                .productId(10L)
+                .merchantUid("merchant-1")
+                .impUid("imp-1")
+                .productPrice(10000)
+                .paidAmount(10000)
+                .paymentMethod("card")
+                .status(status)
+                .createdAt(Instant.now())
+                .isVerified(status == Status.COMPLETED)
+                .build();
+    }
+}
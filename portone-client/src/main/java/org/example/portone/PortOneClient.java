@@ -0,0 +1,116 @@
+package org.example.portone;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+import reactor.util.retry.RetryBackoffSpec;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * PortOne(아임포트) REST API 클라이언트.
+ * 토큰은 {@link PortOneTokenHolder} 가 재사용하고, 조회 요청은 5xx·타임아웃·연결 오류 시 jitter 를 둔 backoff 로 재시도한다.
+ * 결제 취소처럼 멱등하지 않은 요청은 재시도하지 않는다.
+ */
+public class PortOneClient {
+
+    public static final String ENDPOINT_TOKEN = "token";
+    public static final String ENDPOINT_GET_PAYMENT = "get-payment";
+    public static final String ENDPOINT_CANCEL = "cancel";
+    public static final String ENDPOINT_LIST_PAID = "list-paid";
+
+    private final WebClient webClient;
+    private final PortOneTokenHolder tokenHolder;
+    private final PortOneProperties properties;
+    private final PortOneMetrics metrics;
+    private final RetryBackoffSpec retrySpec;
+
+    public PortOneClient(WebClient webClient, PortOneTokenHolder tokenHolder, PortOneProperties properties, PortOneMetrics metrics) {
+        this.webClient = webClient;
+        this.tokenHolder = tokenHolder;
+        this.properties = properties;
+        this.metrics = metrics;
+
+        PortOneProperties.Retry retry = properties.getRetry();
+        this.retrySpec = Retry.backoff(retry.getMaxRetries(), retry.getMinBackoff())
+                .maxBackoff(retry.getMaxBackoff())
+                .jitter(retry.getJitter())
+                .filter(PortOneClient::isRetryable)
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
+
+    public Mono<PortOneVerifyResponse> verifyPayment(String impUid) {
+        return idempotent(ENDPOINT_GET_PAYMENT, token ->
+                webClient.get()
+                        .uri("/payments/{imp_uid}", impUid)
+                        .header("Authorization", "Bearer " + token)
+                        .retrieve()
+                        .bodyToMono(PortOneVerifyResponse.class)
+        );
+    }
+
+    public Mono<PortOneCancelResponse> cancelPayment(String impUid, int amount) {
+        return execute(ENDPOINT_CANCEL, token ->
+                webClient.post()
+                        .uri("/payments/cancel")
+                        .header("Authorization", "Bearer " + token)
+                        .bodyValue(Map.of(
+                                "imp_uid", impUid,
+                                "amount", amount
+                        ))
+                        .retrieve()
+                        .bodyToMono(PortOneCancelResponse.class)
+        );
+    }
+
+    public Mono<PortOnePaymentResponse> getPaymentByImpUid(String impUid) {
+        return idempotent(ENDPOINT_GET_PAYMENT, token ->
+                webClient.get()
+                        .uri("/payments/{imp_uid}", impUid)
+                        .header("Authorization", "Bearer " + token)
+                        .retrieve()
+                        .bodyToMono(PortOneGetPaymentResponse.class)
+                        .map(PortOneGetPaymentResponse::getResponse)
+        );
+    }
+
+    public Mono<List<PortOnePaymentResponse>> getPaidPaymentsWithinPeriod(LocalDateTime from, LocalDateTime to) {
+        return idempotent(ENDPOINT_LIST_PAID, token ->
+                webClient.get()
+                        .uri(uriBuilder -> uriBuilder
+                                .path("/payments/status/paid")
+                                .queryParam("from", from.toEpochSecond(ZoneOffset.UTC))
+                                .queryParam("to", to.toEpochSecond(ZoneOffset.UTC))
+                                .build())
+                        .header("Authorization", "Bearer " + token)
+                        .retrieve()
+                        .bodyToMono(new ParameterizedTypeReference<PortOneGetListResponse>() {})
+                        .map(PortOneGetListResponse::getResponse)
+                        .map(PortOneGetListResponse.Response::getList)
+        );
+    }
+
+    private <T> Mono<T> idempotent(String endpoint, Function<String, Mono<T>> request) {
+        return execute(endpoint, request).retryWhen(retrySpec);
+    }
+
+    private <T> Mono<T> execute(String endpoint, Function<String, Mono<T>> request) {
+        return tokenHolder.withToken(token ->
+                metrics.timed(endpoint, request.apply(token).timeout(properties.timeout(endpoint))));
+    }
+
+    private static boolean isRetryable(Throwable e) {
+        if (e instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError();
+        }
+        return e instanceof TimeoutException || e instanceof WebClientRequestException;
+    }
+}
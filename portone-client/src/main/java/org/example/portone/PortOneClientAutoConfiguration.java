@@ -0,0 +1,61 @@
+package org.example.portone;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.web.reactive.function.client.WebClientAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * PortOne 클라이언트 자동 설정.
+ * 전용 커넥션 풀(keep-alive, 유휴·수명 정리, 풀 메트릭)을 쓰는 WebClient 로 {@link PortOneClient} 를 만든다.
+ * WebClient 는 빈으로 노출하지 않아 서비스의 다른 WebClient 주입에 영향을 주지 않는다.
+ */
+@AutoConfiguration(after = WebClientAutoConfiguration.class)
+@EnableConfigurationProperties(PortOneProperties.class)
+public class PortOneClientAutoConfiguration {
+
+    @Bean(destroyMethod = "dispose")
+    @ConditionalOnMissingBean(name = "portOneConnectionProvider")
+    public ConnectionProvider portOneConnectionProvider(PortOneProperties properties) {
+        PortOneProperties.Pool pool = properties.getPool();
+        return ConnectionProvider.builder("portone")
+                .maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .maxLifeTime(pool.getMaxLifeTime())
+                .evictInBackground(pool.getEvictInBackground())
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public PortOneClient portOneClient(PortOneProperties properties,
+                                       ConnectionProvider portOneConnectionProvider,
+                                       ObjectProvider<WebClient.Builder> webClientBuilder,
+                                       ObjectProvider<MeterRegistry> meterRegistry) {
+        HttpClient httpClient = HttpClient.create(portOneConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true);
+
+        WebClient webClient = webClientBuilder.getIfAvailable(WebClient::builder)
+                .baseUrl(properties.getBaseUrl().toString())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+
+        PortOneMetrics metrics = new PortOneMetrics(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+        PortOneTokenHolder tokenHolder = new PortOneTokenHolder(webClient, properties, metrics);
+        return new PortOneClient(webClient, tokenHolder, properties, metrics);
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.portone;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * PortOne 엔드포인트별 호출 지연 시간과 결과(성공·4xx·5xx·타임아웃·연결 오류) 메트릭.
+ * 재시도는 시도마다 따로 기록된다.
+ */
+public class PortOneMetrics {
+
+    private final MeterRegistry meterRegistry;
+    // 엔드포인트 × 결과 조합마다 한 번만 등록
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public PortOneMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> Mono<T> timed(String endpoint, Mono<T> call) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return call
+                    .doOnSuccess(result -> record(endpoint, "success", start))
+                    .doOnError(e -> record(endpoint, outcome(e), start));
+        });
+    }
+
+    private void record(String endpoint, String outcome, long start) {
+        timers.computeIfAbsent(endpoint + "|" + outcome, key -> Timer.builder("portone.client.requests")
+                        .description("PortOne API 호출 시간")
+                        .tag("endpoint", endpoint)
+                        .tag("outcome", outcome)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private static String outcome(Throwable e) {
+        if (e instanceof WebClientResponseException response) {
+            return response.getStatusCode().is4xxClientError() ? "client_error" : "server_error";
+        }
+        if (e instanceof TimeoutException) {
+            return "timeout";
+        }
+        if (e instanceof WebClientRequestException) {
+            return "io_error";
+        }
+        return "error";
+    }
+}
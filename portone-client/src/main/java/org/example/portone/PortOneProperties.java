@@ -0,0 +1,60 @@
+package org.example.portone;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Validated
+@ConfigurationProperties(prefix = "portone")
+@Getter
+@Setter
+public class PortOneProperties {
+
+    @NotBlank
+    private String impKey;
+    @NotBlank
+    private String impSecret;
+    // 로컬 mock 서버로 바꿔 테스트·부하 측정할 수 있음
+    private URI baseUrl = URI.create("https://api.iamport.kr");
+    private Duration connectTimeout = Duration.ofSeconds(3);
+    private Duration defaultTimeout = Duration.ofSeconds(5);
+    // 엔드포인트별 응답 제한 시간 (token, get-payment, cancel, list-paid). 없으면 default-timeout
+    private Map<String, Duration> timeouts = new HashMap<>(Map.of(PortOneClient.ENDPOINT_CANCEL, Duration.ofSeconds(10)));
+    private final Pool pool = new Pool();
+    private final Retry retry = new Retry();
+
+    public Duration timeout(String endpoint) {
+        return timeouts.getOrDefault(endpoint, defaultTimeout);
+    }
+
+    @Getter
+    @Setter
+    public static class Pool {
+        private int maxConnections = 50;
+        // 커넥션을 기다릴 수 있는 요청 수와 시간
+        private int pendingAcquireMaxCount = 500;
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(2);
+        // 서버가 먼저 끊기 전에 유휴 커넥션을 정리
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+        private Duration evictInBackground = Duration.ofSeconds(30);
+    }
+
+    // 조회(GET) 요청만 재시도한다
+    @Getter
+    @Setter
+    public static class Retry {
+        // 첫 호출을 뺀 재시도 횟수 (Retry.backoff 의 maxAttempts 인자)
+        private int maxRetries = 2;
+        private Duration minBackoff = Duration.ofMillis(100);
+        private Duration maxBackoff = Duration.ofSeconds(1);
+        private double jitter = 0.5;
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.portone;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * PortOne 액세스 토큰 보관소.
+ * 발급받은 토큰을 만료 전까지 재사용하고, 만료가 가까워지면 기존 토큰으로 호출을 계속하면서 백그라운드에서 갱신한다.
+ * 동시에 들어온 발급 요청은 /users/getToken 한 번으로 묶고, API 가 401 을 주면 토큰을 버리고 한 번 재시도한다.
+ */
+@Slf4j
+public class PortOneTokenHolder {
+
+    // 만료 이 시간 전부터 백그라운드 갱신
+    private static final Duration REFRESH_AHEAD = Duration.ofMinutes(5);
+    // 만료 이 시간 전부터는 쓰지 않고 새로 받는다 (요청 도중 만료 방지)
+    private static final Duration EXPIRY_MARGIN = Duration.ofSeconds(30);
+
+    private final WebClient webClient;
+    private final PortOneProperties portOneProperties;
+    private final PortOneMetrics metrics;
+
+    private final AtomicReference<CachedToken> current = new AtomicReference<>();
+    private final AtomicReference<Mono<CachedToken>> refreshing = new AtomicReference<>();
+
+    public PortOneTokenHolder(WebClient webClient, PortOneProperties portOneProperties, PortOneMetrics metrics) {
+        this.webClient = webClient;
+        this.portOneProperties = portOneProperties;
+        this.metrics = metrics;
+    }
+
+    /**
+     * 토큰을 붙여 call 을 실행한다. 401 이면 토큰을 새로 받아 한 번 더 실행한다.
+     */
+    public <T> Mono<T> withToken(Function<String, Mono<T>> call) {
+        return getToken().flatMap(token -> call.apply(token)
+                .onErrorResume(WebClientResponseException.Unauthorized.class, e -> {
+                    log.warn("PortOne 토큰이 거부되어 재발급 후 재시도합니다.");
+                    invalidate(token);
+                    return getToken().flatMap(call);
+                }));
+    }
+
+    public Mono<String> getToken() {
+        return Mono.defer(() -> {
+            CachedToken token = current.get();
+            Instant now = Instant.now();
+            if (token != null && token.isUsableAt(now)) {
+                if (token.needsRefreshAt(now)) {
+                    refresh().subscribe(refreshed -> {}, e -> log.warn("PortOne 토큰 백그라운드 갱신 실패", e));
+                }
+                return Mono.just(token.value());
+            }
+            return refresh().map(CachedToken::value);
+        });
+    }
+
+    void invalidate(String token) {
+        current.updateAndGet(cached -> cached != null && cached.value().equals(token) ? null : cached);
+    }
+
+    private Mono<CachedToken> refresh() {
+        Mono<CachedToken> existing = refreshing.get();
+        if (existing != null) {
+            return existing;
+        }
+
+        Sinks.One<CachedToken> sink = Sinks.one();
+        Mono<CachedToken> flight = sink.asMono();
+        if (!refreshing.compareAndSet(null, flight)) {
+            return refresh();
+        }
+
+        fetchToken()
+                .doFinally(signal -> refreshing.compareAndSet(flight, null))
+                .subscribe(token -> {
+                    current.set(token);
+                    sink.tryEmitValue(token);
+                }, sink::tryEmitError);
+        return flight;
+    }
+
+    private Mono<CachedToken> fetchToken() {
+        Mono<PortOneTokenResponse> call = webClient.post()
+                .uri("/users/getToken")
+                .bodyValue(Map.of(
+                        "imp_key", portOneProperties.getImpKey(),
+                        "imp_secret", portOneProperties.getImpSecret()
+                ))
+                .retrieve()
+                .bodyToMono(PortOneTokenResponse.class)
+                .timeout(portOneProperties.timeout(PortOneClient.ENDPOINT_TOKEN));
+
+        return metrics.timed(PortOneClient.ENDPOINT_TOKEN, call)
+                .switchIfEmpty(Mono.error(new IllegalStateException("PortOne 토큰 응답이 비어 있습니다.")))
+                .map(body -> {
+                    PortOneTokenResponse.TokenResponse token = body.response();
+                    if (token == null || token.access_token() == null) {
+                        throw new IllegalStateException("PortOne 토큰 발급에 실패했습니다.");
+                    }
+                    // PortOne 서버 시각 기준 남은 시간으로 만료 시각을 계산 (서버 간 시계 차이 보정)
+                    return new CachedToken(token.access_token(), Instant.now().plusSeconds(token.expired_at() - token.now()));
+                });
+    }
+
+    private record CachedToken(String value, Instant expiresAt) {
+
+        boolean isUsableAt(Instant now) {
+            return now.isBefore(expiresAt.minus(EXPIRY_MARGIN));
+        }
+
+        boolean needsRefreshAt(Instant now) {
+            return !now.isBefore(expiresAt.minus(REFRESH_AHEAD));
+        }
+    }
+}
@@ -1,4 +1,4 @@
-package org.example.rollbackservice.portone;
+package org.example.portone;
 
 public record PortOneTokenResponse(
         int code,
@@ -1,4 +1,4 @@
-package org.example.paymentservice.portone;
+package org.example.portone;
 
 public record PortOneVerifyResponse(
         int code,
@@ -0,0 +1,98 @@
+package org.example.portone;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class PortOneClientTest {
+
+    private static final String TOKEN_BODY = """
+            {"response": {"access_token": "token", "now": 1000, "expired_at": 2800}}
+            """;
+
+    private final AtomicInteger apiCalls = new AtomicInteger();
+    // 이 횟수만큼 API 가 503 을 준다
+    private int failures = 1;
+    private WebClient webClient;
+    private PortOneProperties properties;
+    private PortOneClient portOneClient;
+
+    @BeforeEach
+    void setUp() {
+        // 토큰 발급은 성공, 그 외 API 는 failures 번까지 503
+        webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    if (request.url().getPath().equals("/users/getToken")) {
+                        return Mono.just(json(HttpStatus.OK, TOKEN_BODY));
+                    }
+                    if (apiCalls.incrementAndGet() <= failures) {
+                        return Mono.just(json(HttpStatus.SERVICE_UNAVAILABLE, "{}"));
+                    }
+                    return Mono.just(json(HttpStatus.OK, """
+                            {"code": 0, "response": {"imp_uid": "imp-1", "merchant_uid": "m-1", "amount": 1000, "status": "paid"}}
+                            """));
+                })
+                .build();
+
+        properties = new PortOneProperties();
+        properties.setImpKey("key");
+        properties.setImpSecret("secret");
+        properties.getRetry().setMinBackoff(Duration.ofMillis(1));
+
+        portOneClient = client(webClient);
+    }
+
+    @Test
+    void 조회요청은_5xx면_재시도한다() {
+        PortOneVerifyResponse response = portOneClient.verifyPayment("imp-1").block();
+
+        assertThat(response.response().amount()).isEqualTo(1000);
+        assertThat(apiCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 조회요청은_maxRetries_만큼만_재시도한다() {
+        failures = Integer.MAX_VALUE;
+        properties.getRetry().setMaxRetries(1);
+        PortOneClient client = client(webClient);
+
+        Throwable thrown = catchThrowable(() -> client.verifyPayment("imp-1").block());
+
+        assertThat(thrown).isNotNull();
+        // 첫 호출 + 재시도 1회
+        assertThat(apiCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 결제취소는_재시도하지_않는다() {
+        Throwable thrown = catchThrowable(() -> portOneClient.cancelPayment("imp-1", 1000).block());
+
+        assertThat(thrown).isInstanceOf(WebClientResponseException.ServiceUnavailable.class);
+        assertThat(apiCalls.get()).isEqualTo(1);
+    }
+
+    private PortOneClient client(WebClient webClient) {
+        PortOneMetrics metrics = new PortOneMetrics(new SimpleMeterRegistry());
+        return new PortOneClient(webClient, new PortOneTokenHolder(webClient, properties, metrics), properties, metrics);
+    }
+
+    private static ClientResponse json(HttpStatus status, String body) {
+        return ClientResponse.create(status)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build();
+    }
+}
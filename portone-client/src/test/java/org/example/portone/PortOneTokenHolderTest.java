@@ -0,0 +1,85 @@
+package org.example.portone;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PortOneTokenHolderTest {
+
+    private final AtomicInteger tokenCalls = new AtomicInteger();
+    private PortOneTokenHolder tokenHolder;
+
+    @BeforeEach
+    void setUp() {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    int call = tokenCalls.incrementAndGet();
+                    String body = """
+                            {"response": {"access_token": "token-%d", "now": 1000, "expired_at": 2800}}
+                            """.formatted(call);
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(body)
+                            .build())
+                            // 동시 요청이 겹치도록 응답을 조금 늦춘다
+                            .delayElement(Duration.ofMillis(50));
+                })
+                .build();
+        PortOneProperties properties = new PortOneProperties();
+        properties.setImpKey("key");
+        properties.setImpSecret("secret");
+        tokenHolder = new PortOneTokenHolder(webClient, properties, new PortOneMetrics(new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void 발급받은_토큰은_만료전까지_재사용된다() {
+        String first = tokenHolder.getToken().block();
+        String second = tokenHolder.getToken().block();
+
+        assertThat(first).isEqualTo("token-1");
+        assertThat(second).isEqualTo("token-1");
+        assertThat(tokenCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 동시에_들어온_발급요청은_한번만_호출된다() {
+        List<String> tokens = Flux.range(0, 10)
+                .flatMap(i -> tokenHolder.getToken())
+                .collectList()
+                .block();
+
+        assertThat(tokens).hasSize(10).containsOnly("token-1");
+        assertThat(tokenCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 401을_받으면_토큰을_재발급받아_한번_재시도한다() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = tokenHolder.withToken(token -> {
+            if (attempts.incrementAndGet() == 1) {
+                return Mono.error(WebClientResponseException.create(
+                        HttpStatus.UNAUTHORIZED.value(), "Unauthorized", HttpHeaders.EMPTY, new byte[0], null));
+            }
+            return Mono.just(token);
+        }).block();
+
+        assertThat(result).isEqualTo("token-2");
+        assertThat(attempts.get()).isEqualTo(2);
+        assertThat(tokenCalls.get()).isEqualTo(2);
+    }
+}
@@ -8,13 +8,6 @@ import org.springframework.web.reactive.function.client.WebClient;
 @Configuration
 public class ClientConfig {
 
-    @Bean
-    WebClient webClient(@Value("${webclient.portone-uri}") String portOneUri) {
-        return WebClient.builder()
-                .baseUrl(portOneUri)
-                .build();
-    }
-
     @Bean
     WebClient lectureWebClient(@Value("${webclient.lecture-uri}") String lectureUri) {
         return WebClient.builder()
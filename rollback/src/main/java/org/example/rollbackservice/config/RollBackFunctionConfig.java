@@ -2,12 +2,12 @@ package org.example.rollbackservice.config;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.portone.PortOneCancelResponse;
+import org.example.portone.PortOneClient;
 import org.example.rollbackservice.discount.DiscountRollbackFailureSaver;
 import org.example.rollbackservice.event.RollBackRequestMessage;
 import org.example.rollbackservice.event.RollBackResponseMessage;
 import org.example.rollbackservice.lecture.LectureClient;
-import org.example.rollbackservice.portone.PortOneCancelResponse;
-import org.example.rollbackservice.portone.PortOneClient;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
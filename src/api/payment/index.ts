@@ -1,6 +1,9 @@
 import API from '@/utils/apiClient';
 import { PaymentRequest } from '@/types/payment';
 
+// PurchaseApiController.MAX_PAGE_SIZE 와 맞춤
+const PURCHASE_PAGE_SIZE = 100;
+
 export const paymentAPI = {
   // 결제 요청 (포트원에서 응답받은 결제 정보를 백엔드로 전송)
   savePayment: (paymentData: PaymentRequest) => {
@@ -8,8 +11,17 @@ export const paymentAPI = {
   },
 
   // 결제 내역 조회 (본인 것만)
-  getMyPurchases: () => {
-    return API.get('/pay/read');
+  // 서버는 최신순으로 페이지당 최대 PURCHASE_PAGE_SIZE건을 주므로 마지막 페이지까지 이어 받는다
+  getMyPurchases: async () => {
+    const first = await API.get(`/pay/read?page=0&size=${PURCHASE_PAGE_SIZE}`);
+    const data = [...first.data];
+    let last = first.data;
+    for (let page = 1; last.length === PURCHASE_PAGE_SIZE; page++) {
+      const res = await API.get(`/pay/read?page=${page}&size=${PURCHASE_PAGE_SIZE}`);
+      data.push(...res.data);
+      last = res.data;
+    }
+    return { ...first, data };
   },
 
   cancelPayment: (merchantUid: string) => {
@@ -131,6 +131,28 @@ CREATE TABLE discount_rollback_failure (
     created_at DATETIME DEFAULT CURRENT_TIMESTAMP
 );
 
+-- 결제 내역 조회(/pay/read)용 읽기 모델: COMPLETED 결제만 강의 제목·강사 스냅샷과 함께 보관
+CREATE TABLE IF NOT EXISTS purchase_summary (
+    purchase_id BIGINT PRIMARY KEY,                 -- purchase의 id값 (FK 사용 x)
+    user_id BIGINT NOT NULL,
+    product_id BIGINT NOT NULL,
+    merchant_uid VARCHAR(50) NOT NULL,
+    product_title VARCHAR(255) NOT NULL,            -- 결제 완료 시점의 강의 제목
+    instructor_name VARCHAR(100) NOT NULL,          -- 결제 완료 시점의 강사 이름
+    paid_amount INT NOT NULL,
+    payment_method VARCHAR(50) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    INDEX idx_purchase_summary_user (user_id, created_at DESC, purchase_id DESC)
+);
+
+-- purchase_summary 반영에 실패한 결제 (강의 서비스 조회 실패 등). 스케줄러가 재시도하고 성공하면 삭제
+CREATE TABLE IF NOT EXISTS purchase_summary_failure (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    purchase_id BIGINT NOT NULL,        -- purchase의 id값 (FK 사용 x)
+    reason TEXT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
 USE `notitable`;
 
 CREATE TABLE IF NOT EXISTS notification (
@@ -1,10 +0,0 @@
-package org.example.verificationservice.config;
-
-import jakarta.validation.constraints.NotBlank;
-import org.springframework.boot.context.properties.ConfigurationProperties;
-
-@ConfigurationProperties(prefix = "portone")
-public record PortOneProperties(
-        @NotBlank String impKey,
-        @NotBlank String impSecret
-) {}
@@ -2,9 +2,9 @@ package org.example.verificationservice.config;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.portone.PortOneClient;
 import org.example.verificationservice.event.VerificationRequestMessage;
 import org.example.verificationservice.event.VerificationResponseMessage;
-import org.example.verificationservice.portone.PortOneClient;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import reactor.core.publisher.Flux;
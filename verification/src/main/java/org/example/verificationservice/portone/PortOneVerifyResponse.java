@@ -1,13 +0,0 @@
-package org.example.verificationservice.portone;
-
-public record PortOneVerifyResponse(
-        int code,
-        String message,
-        VerifyResponse response
-) {
-    public record VerifyResponse(
-            String imp_uid,
-            String merchant_uid,
-            int amount
-    ) {}
-}